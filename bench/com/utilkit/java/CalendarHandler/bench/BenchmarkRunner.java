@@ -0,0 +1,364 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package com.utilkit.java.CalendarHandler.bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.Supplier;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to measure the time and the allocation of the operations without any library.<br>
+ * Each case is run for the fixed time on each number of the threads after the warm up,
+ * and the average time per operation and the allocated bytes per operation are reported.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The allocated bytes are measured with {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.<br>
+ * If the JVM does not support it, the allocation is reported as -1.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * The results of the operations are folded into a sink to keep them from being removed by the JIT compiler,
+ * so each operation must return a value depending on its result.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The operation to be measured.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	@FunctionalInterface
+	public interface Operation {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Run the operation once.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param index [i] The number of the invocation, used to select the input
+		 * @return Returns a value depending on the result of the operation
+		 */
+		long run(int index);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The case to be measured.<br>
+	 * The operation is created for each thread, so it can hold the state not shared between threads.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final class Case {
+
+		private final String group;
+		private final String name;
+		private final String parameter;
+		private final Supplier<Operation> operationFactory;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to initialise the case.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param group [i] The group of the case
+		 * @param name [i] The name of the case
+		 * @param parameter [i] The parameter of the case
+		 * @param operationFactory [i] The factory to create the operation for each thread
+		 */
+		public Case(String group, String name, String parameter, Supplier<Operation> operationFactory) {
+
+			this.group = group;
+			this.name = name;
+			this.parameter = parameter;
+			this.operationFactory = operationFactory;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the label of the case in group.name:parameter form.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns the label of the case
+		 */
+		public String getLabel() {
+
+			return this.group + "." + this.name + (this.parameter.isEmpty() ? "" : ":" + this.parameter);
+		}
+	}
+
+	private final int warmupIterations;
+	private final int measurementIterations;
+	private final long iterationNanos;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The sink of the results of the operations.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private volatile long sink = 0L;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the runner.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param warmupIterations [i] The number of the iterations to warm up
+	 * @param measurementIterations [i] The number of the iterations to measure
+	 * @param iterationMillis [i] The time of an iteration in milliseconds
+	 */
+	public BenchmarkRunner(int warmupIterations, int measurementIterations, long iterationMillis) {
+
+		this.warmupIterations = warmupIterations;
+		this.measurementIterations = measurementIterations;
+		this.iterationNanos = iterationMillis * 1_000_000L;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Run the case on the number of the threads and return the result.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param benchmarkCase [i] The case to be measured
+	 * @param threads [i] The number of the threads
+	 * @return Returns the result of the case
+	 * @throws Exception throws when the thread is interrupted or the operation fails
+	 */
+	public String run(Case benchmarkCase, int threads) throws Exception {
+
+		for (int i = 0; i < this.warmupIterations; i++) {
+			this.runIteration(benchmarkCase, threads);
+		}
+
+		long operations = 0L;
+		long elapsedNanos = 0L;
+		long allocatedBytes = 0L;
+		final long gcCount = getGcCount();
+
+		for (int i = 0; i < this.measurementIterations; i++) {
+			final long[] result = this.runIteration(benchmarkCase, threads);
+
+			operations += result[0];
+			elapsedNanos += result[1];
+			allocatedBytes = allocatedBytes < 0 || result[2] < 0 ? -1 : allocatedBytes + result[2];
+		}
+
+		// each thread runs for the elapsed time, so the time per operation is per thread
+		final double nanosPerOperation = (double) elapsedNanos * threads / operations;
+		final double bytesPerOperation = allocatedBytes < 0 ? -1 : (double) allocatedBytes / operations;
+
+		return String.format(Locale.ROOT, "%-60s %3d %12.1f %12.1f %10.1f %6d",
+				benchmarkCase.getLabel(), threads, nanosPerOperation, operations * 1000.0 / elapsedNanos, bytesPerOperation, getGcCount() - gcCount);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the header of the results.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the header
+	 */
+	public static String header() {
+
+		return String.format(Locale.ROOT, "%-60s %3s %12s %12s %10s %6s", "Benchmark", "Thr", "ns/op", "ops/us", "B/op", "GCs");
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Run the case for an iteration on the number of the threads.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param benchmarkCase [i] The case to be measured
+	 * @param threads [i] The number of the threads
+	 * @return Returns the number of the operations, the elapsed nanoseconds and the allocated bytes
+	 * @throws Exception throws when the thread is interrupted or the operation fails
+	 */
+	private long[] runIteration(Case benchmarkCase, int threads) throws Exception {
+
+		final CyclicBarrier barrier = new CyclicBarrier(threads);
+		final long[][] results = new long[threads][];
+		final Throwable[] failures = new Throwable[threads];
+		final List<Thread> workers = new ArrayList<Thread>();
+
+		for (int t = 0; t < threads; t++) {
+			final int id = t;
+			final Operation operation = benchmarkCase.operationFactory.get();
+
+			final Thread worker = new Thread(() -> {
+				try {
+					barrier.await();
+					results[id] = this.measure(operation);
+				} catch (Throwable e) {
+					failures[id] = e;
+				}
+			}, "bench-" + t);
+
+			workers.add(worker);
+			worker.start();
+		}
+
+		long operations = 0L;
+		long elapsedNanos = 0L;
+		long allocatedBytes = 0L;
+
+		for (int t = 0; t < threads; t++) {
+			workers.get(t).join();
+
+			if (failures[t] != null) {
+				throw new IllegalStateException(benchmarkCase.getLabel(), failures[t]);
+			}
+
+			operations += results[t][0];
+			elapsedNanos = Math.max(elapsedNanos, results[t][1]);
+			allocatedBytes = allocatedBytes < 0 || results[t][2] < 0 ? -1 : allocatedBytes + results[t][2];
+		}
+
+		return new long[] { operations, elapsedNanos, allocatedBytes };
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Run the operation in the current thread for the time of an iteration.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation to be measured
+	 * @return Returns the number of the operations, the elapsed nanoseconds and the allocated bytes
+	 */
+	private long[] measure(Operation operation) {
+
+		final long threadId = Thread.currentThread().getId();
+		final long allocatedBefore = getAllocatedBytes(threadId);
+		final long start = System.nanoTime();
+		final long deadline = start + this.iterationNanos;
+
+		long result = 0L;
+		int index = 0;
+		int batch = 1;
+		long now;
+
+		do {
+			// the clock is read once per batch to keep its cost out of the operation
+			for (int i = 0; i < batch; i++, index++) {
+				result += operation.run(index);
+			}
+
+			// the batch grows gradually so that the slow operations do not overrun the time of the iteration
+			batch = Math.min(batch << 1, 256);
+			now = System.nanoTime();
+		} while (now < deadline);
+
+		final long allocatedAfter = getAllocatedBytes(threadId);
+		this.sink += result;
+
+		return new long[] { index, now - start, allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore };
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the allocated bytes of the thread, or -1 if it is not supported.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param threadId [i] The ID of the thread
+	 * @return Returns the allocated bytes of the thread
+	 */
+	private static long getAllocatedBytes(long threadId) {
+
+		final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+			return -1L;
+		}
+
+		return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(threadId);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the total number of the garbage collections.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the garbage collections
+	 */
+	private static long getGcCount() {
+
+		long count = 0L;
+
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0L, gc.getCollectionCount());
+		}
+
+		return count;
+	}
+}
@@ -0,0 +1,447 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+
+package com.utilkit.java.CalendarHandler.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import com.utilkit.java.CalendarHandler.CalendarBatchExecutor;
+import com.utilkit.java.CalendarHandler.CalendarBatchHandler;
+import com.utilkit.java.CalendarHandler.CalendarHandler;
+import com.utilkit.java.CalendarHandler.CalendarInfoEnum.MonthInfo;
+import com.utilkit.java.CalendarHandler.CalendarInfoEnum.WeekInfo;
+import com.utilkit.java.CalendarHandler.CompiledDateFormat;
+import com.utilkit.java.CalendarHandler.DateFormatDetector;
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+import com.utilkit.java.CalendarHandler.ICalendarInfoEnum;
+import com.utilkit.java.CalendarHandler.IFormatInfoEnum;
+import com.utilkit.java.CalendarHandler.bench.BenchmarkRunner.Case;
+import com.utilkit.java.CalendarHandler.bench.BenchmarkRunner.Operation;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to benchmark the public operations of the calendar handler and the enum lookups.<br>
+ * The operations taking the date are measured for every format of {@link DateFormatInfo}.<br>
+ * </DD>
+ * <DT>Usage:</DT>
+ * <DD>
+ * <strong>javac -d bin $(find src bench -name "*.java")</strong><br>
+ * <strong>java -cp bin com.utilkit.java.CalendarHandler.bench.CalendarHandlerBenchmark [options]</strong><br>
+ * <br>
+ * -threads 1,2,4 : The numbers of the threads, default is the powers of two up to the number of the processors<br>
+ * -filter regex : Run only the cases whose label matches the regular expression<br>
+ * -warmup n : The number of the iterations to warm up, default is 3<br>
+ * -iterations n : The number of the iterations to measure, default is 5<br>
+ * -time ms : The time of an iteration in milliseconds, default is 200<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The results committed in bench/results are the baseline to compare the changes with.<br>
+ * Run the benchmark on the same machine before and after the change, as the absolute values depend on the machine.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see BenchmarkRunner
+ */
+public final class CalendarHandlerBenchmark {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the input dates, which must be a power of two.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int INPUT_SIZE = 1 << 12;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the dates in a column of the batch operations.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int COLUMN_SIZE = 1 << 16;
+
+	private static final int MASK = INPUT_SIZE - 1;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The packed dates from 1900 to 2099 used as the input, which are the same on every run.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int[] PACKED_DATES = createPackedDates(INPUT_SIZE, 42L);
+
+	private CalendarHandlerBenchmark() {}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Run the benchmark and print the results.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param args [i] The options of the benchmark
+	 * @throws Exception throws when the benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+
+		int[] threads = defaultThreads();
+		Pattern filter = null;
+		int warmup = 3;
+		int iterations = 5;
+		long time = 200L;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+			case "-threads":
+				threads = parseThreads(args[i + 1]);
+				break;
+			case "-filter":
+				filter = Pattern.compile(args[i + 1]);
+				break;
+			case "-warmup":
+				warmup = Integer.parseInt(args[i + 1]);
+				break;
+			case "-iterations":
+				iterations = Integer.parseInt(args[i + 1]);
+				break;
+			case "-time":
+				time = Long.parseLong(args[i + 1]);
+				break;
+			default:
+				throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", args[i]));
+			}
+		}
+
+		final BenchmarkRunner runner = new BenchmarkRunner(warmup, iterations, time);
+
+		System.out.println(String.format("# java.version=%s, vm=%s, processors=%d, warmup=%d, iterations=%d, time=%dms",
+				System.getProperty("java.version"), System.getProperty("java.vm.name"),
+				Runtime.getRuntime().availableProcessors(), warmup, iterations, time));
+		System.out.println(BenchmarkRunner.header());
+
+		for (Case benchmarkCase : createCases()) {
+			if (filter != null && !filter.matcher(benchmarkCase.getLabel()).find()) {
+				continue;
+			}
+
+			for (int t : threads) {
+				System.out.println(runner.run(benchmarkCase, t));
+			}
+		}
+	}
+
+	// ================= cases =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create all cases of the benchmark.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the cases
+	 */
+	private static List<Case> createCases() {
+
+		final List<Case> cases = new ArrayList<Case>();
+
+		for (DateFormatInfo dateFormatInfo : DateFormatInfo.values()) {
+			addHandlerCases(cases, dateFormatInfo);
+		}
+
+		addEnumCases(cases);
+		addBatchCases(cases);
+
+		return cases;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Add the cases of the calendar handler for the format.<br>
+	 * Each thread uses its own instance of the calendar handler.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param cases [o] The cases
+	 * @param dateFormatInfo [i] The format of the dates
+	 */
+	private static void addHandlerCases(List<Case> cases, DateFormatInfo dateFormatInfo) {
+
+		final String format = dateFormatInfo.getFormat();
+		final String parameter = dateFormatInfo.name();
+		final CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(dateFormatInfo);
+		final String[] dates = new String[INPUT_SIZE];
+		final String[] invalidDates = new String[INPUT_SIZE];
+
+		for (int i = 0; i < INPUT_SIZE; i++) {
+			dates[i] = compiledDateFormat.format(PACKED_DATES[i]);
+			// the day is replaced with 32, which does not exist in any month
+			invalidDates[i] = compiledDateFormat.format(PACKED_DATES[i] / 100 * 100 + 28).replace("28", "32");
+		}
+
+		cases.add(handlerCase(parameter, format, "isEffectiveDate", (h, i) -> h.isEffectiveDate(dates[i & MASK]) ? 1 : 0));
+		cases.add(handlerCase(parameter, format, "isEffectiveDate.invalid", (h, i) -> h.isEffectiveDate(invalidDates[i & MASK]) ? 1 : 0));
+		cases.add(handlerCase(parameter, format, "validate", (h, i) -> h.validate(dates[i & MASK])));
+		cases.add(handlerCase(parameter, format, "validate.invalid", (h, i) -> h.validate(invalidDates[i & MASK])));
+		cases.add(handlerCase(parameter, format, "getDayOfWeekInfoByDate", (h, i) -> h.getDayOfWeekInfoByDate(dates[i & MASK]).getCode()));
+		cases.add(handlerCase(parameter, format, "getMonthInfoByDate", (h, i) -> h.getMonthInfoByDate(dates[i & MASK]).getCode()));
+		cases.add(handlerCase(parameter, format, "adjustDate", (h, i) -> h.adjustDate(dates[i & MASK], 1, 2, 3).length()));
+		cases.add(handlerCase(parameter, format, "getFirstDayOfMonth", (h, i) -> h.getFirstDayOfMonth(dates[i & MASK])));
+		cases.add(handlerCase(parameter, format, "getLastDayOfMonth", (h, i) -> h.getLastDayOfMonth(dates[i & MASK])));
+		cases.add(handlerCase(parameter, format, "getBeginningDateOfWeek", (h, i) -> h.getBeginningDateOfWeek(dates[i & MASK]).length()));
+		cases.add(handlerCase(parameter, format, "getEndDateOfWeek", (h, i) -> h.getEndDateOfWeek(dates[i & MASK]).length()));
+		cases.add(handlerCase(parameter, format, "toDate", (h, i) -> h.toDate(dates[i & MASK]).getTime()));
+		cases.add(handlerCase(parameter, format, "toPackedDate", (h, i) -> h.toPackedDate(dates[i & MASK])));
+		cases.add(handlerCase(parameter, format, "toString.packed", (h, i) -> h.toString(PACKED_DATES[i & MASK]).length()));
+		cases.add(handlerCase(parameter, format, "setDate.getters", (h, i) -> {
+			h.setDate(dates[i & MASK]);
+			return h.getDayOfWeekInfoByDate().getCode() + h.getMonthInfoByDate().getCode() + h.getLastDayOfMonth()
+					+ h.getBeginningDateOfWeek().length() + h.getEndDateOfWeek().length();
+		}));
+		cases.add(new Case("CompiledDateFormat", "parse", parameter, () -> i -> compiledDateFormat.parse(dates[i & MASK])));
+		cases.add(new Case("CompiledDateFormat", "format", parameter, () -> i -> compiledDateFormat.format(PACKED_DATES[i & MASK]).length()));
+		cases.add(new Case("DateFormatDetector", "detect", parameter, () -> i -> DateFormatDetector.getInstance().detect(dates[i & MASK]).getPackedDate(dateFormatInfo)));
+
+		final int length = compiledDateFormat.getLength();
+		final byte[] record = new byte[INPUT_SIZE * length];
+
+		for (int i = 0; i < INPUT_SIZE; i++) {
+			compiledDateFormat.formatTo(PACKED_DATES[i], record, i * length);
+		}
+
+		cases.add(new Case("CompiledDateFormat", "parse.bytes", parameter, () -> i -> compiledDateFormat.parse(record, (i & MASK) * length, length)));
+		cases.add(new Case("CompiledDateFormat", "formatTo.bytes", parameter, () -> {
+			final byte[] bytes = new byte[length];
+			return i -> compiledDateFormat.formatTo(PACKED_DATES[i & MASK], bytes, 0) + bytes[0];
+		}));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Add the cases of the lookups of the enum classes.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param cases [o] The cases
+	 */
+	private static void addEnumCases(List<Case> cases) {
+
+		final WeekInfo[] weeks = WeekInfo.values();
+		final DateFormatInfo[] formats = DateFormatInfo.values();
+
+		cases.add(new Case("ICalendarInfoEnum", "getByCode", "WeekInfo", () -> i -> ICalendarInfoEnum.getByCode(WeekInfo.class, 1 + i % 7).getOrder()));
+		cases.add(new Case("ICalendarInfoEnum", "getByCode", "MonthInfo", () -> i -> ICalendarInfoEnum.getByCode(MonthInfo.class, i % 13).getOrder()));
+		cases.add(new Case("ICalendarInfoEnum", "hasCode", "WeekInfo", () -> i -> ICalendarInfoEnum.hasCode(WeekInfo.class, i % 9) ? 1 : 0));
+		cases.add(new Case("ICalendarInfoEnum", "findByCode", "WeekInfo", () -> i -> ICalendarInfoEnum.findByCode(WeekInfo.class, i % 9).orElse(WeekInfo.Sunday).getOrder()));
+		cases.add(new Case("ICalendarInfoEnum", "ordinalOfCode", "WeekInfo", () -> i -> ICalendarInfoEnum.ordinalOfCode(WeekInfo.class, i % 9)));
+		cases.add(new Case("ICalendarInfoEnum", "getByEnglishName", "WeekInfo",
+				() -> i -> ICalendarInfoEnum.getByEnglishName(WeekInfo.class, weeks[i % 7].getEnglishName()).getCode()));
+		cases.add(new Case("ICalendarInfoEnum", "getByJapaneseName", "WeekInfo",
+				() -> i -> ICalendarInfoEnum.getByJapaneseName(WeekInfo.class, weeks[i % 7].getJapaneseName()).getCode()));
+		cases.add(new Case("ICalendarInfoEnum", "getMap", "MonthInfo", () -> i -> ICalendarInfoEnum.getMap(MonthInfo.class).size()));
+		cases.add(new Case("ICalendarInfoEnum", "getOrderedList", "MonthInfo", () -> i -> ICalendarInfoEnum.getOrderedList(MonthInfo.class).size()));
+		cases.add(new Case("IFormatInfoEnum", "getByCode", "DateFormatInfo", () -> i -> IFormatInfoEnum.getByCode(DateFormatInfo.class, 1 + i % 17).getOrder()));
+		cases.add(new Case("IFormatInfoEnum", "getByFormat", "DateFormatInfo",
+				() -> i -> IFormatInfoEnum.getByFormat(DateFormatInfo.class, formats[i % 17].getFormat()).getCode()));
+		cases.add(new Case("IFormatInfoEnum", "hasFormat", "DateFormatInfo",
+				() -> i -> IFormatInfoEnum.hasFormat(DateFormatInfo.class, formats[i % 17].getFormat()) ? 1 : 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Add the cases of the batch operations.<br>
+	 * An operation processes a whole column, so the time per operation is the time of the whole column.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param cases [o] The cases
+	 */
+	private static void addBatchCases(List<Case> cases) {
+
+		final int[] column = createPackedDates(COLUMN_SIZE, 7L);
+		final String parameter = "column=" + COLUMN_SIZE;
+
+		cases.add(new Case("CalendarBatchHandler", "adjustDate", parameter, () -> {
+			final int[] out = new int[COLUMN_SIZE];
+			return i -> CalendarBatchHandler.adjustDate(column, out, 1, 2, 3).cardinality() + out[i & MASK];
+		}));
+		cases.add(new Case("CalendarBatchHandler", "dayOfWeek", parameter, () -> {
+			final byte[] out = new byte[COLUMN_SIZE];
+			return i -> CalendarBatchHandler.dayOfWeek(column, out).cardinality() + out[i & MASK];
+		}));
+		cases.add(new Case("CalendarBatchHandler", "lastDayOfMonth", parameter, () -> {
+			final byte[] out = new byte[COLUMN_SIZE];
+			return i -> CalendarBatchHandler.lastDayOfMonth(column, out).cardinality() + out[i & MASK];
+		}));
+		cases.add(new Case("CalendarBatchExecutor", "dayOfWeek", parameter, () -> {
+			final byte[] out = new byte[COLUMN_SIZE];
+			return i -> CalendarBatchExecutor.getInstance().dayOfWeek(column, out).cardinality() + out[i & MASK];
+		}));
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The operation of the calendar handler.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	@FunctionalInterface
+	private interface HandlerOperation {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Run the operation once with the calendar handler of the thread.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param calendarHandler [i] The calendar handler of the thread
+		 * @param index [i] The number of the invocation, used to select the input
+		 * @return Returns a value depending on the result of the operation
+		 */
+		long run(CalendarHandler calendarHandler, int index);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the case of the calendar handler created with the format for each thread.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param parameter [i] The parameter of the case
+	 * @param format [i] The format of the dates
+	 * @param name [i] The name of the case
+	 * @param operation [i] The operation of the calendar handler
+	 * @return Returns the case
+	 */
+	private static Case handlerCase(String parameter, String format, String name, HandlerOperation operation) {
+
+		return new Case("CalendarHandler", name, parameter, () -> {
+			final CalendarHandler calendarHandler = CalendarHandler.getInstance(format);
+			return (Operation) i -> operation.run(calendarHandler, i);
+		});
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the packed dates from 1900-01-01 to 2099-12-28 with the seed.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param size [i] The number of the dates
+	 * @param seed [i] The seed of the random numbers
+	 * @return Returns the packed dates
+	 */
+	private static int[] createPackedDates(int size, long seed) {
+
+		final Random random = new Random(seed);
+		final int[] packedDates = new int[size];
+
+		for (int i = 0; i < size; i++) {
+			packedDates[i] = (1900 + random.nextInt(200)) * 10000 + (1 + random.nextInt(12)) * 100 + 1 + random.nextInt(28);
+		}
+
+		return packedDates;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the powers of two up to the number of the processors, and the number of the processors.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the numbers of the threads
+	 */
+	private static int[] defaultThreads() {
+
+		final int processors = Runtime.getRuntime().availableProcessors();
+		final TreeSet<Integer> threads = new TreeSet<Integer>();
+
+		for (int t = 1; t < processors; t <<= 1) {
+			threads.add(t);
+		}
+
+		threads.add(processors);
+
+		return threads.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the comma separated numbers of the threads.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param value [i] The comma separated numbers
+	 * @return Returns the numbers of the threads
+	 */
+	private static int[] parseThreads(String value) {
+
+		final String[] values = value.split(",");
+		final int[] threads = new int[values.length];
+
+		for (int i = 0; i < values.length; i++) {
+			threads[i] = Integer.parseInt(values[i].trim());
+		}
+
+		return threads;
+	}
+}
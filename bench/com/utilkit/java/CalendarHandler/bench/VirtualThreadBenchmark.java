@@ -0,0 +1,371 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler.bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.utilkit.java.CalendarHandler.CalendarHandler;
+import com.utilkit.java.CalendarHandler.CompiledDateFormat;
+import com.utilkit.java.CalendarHandler.DateFormatDetector;
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+import com.utilkit.java.CalendarHandler.PackedDate;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to benchmark the throughput of the date operations run by many concurrent tasks.<br>
+ * Each task is run as a virtual thread, creates its own calendar handler,
+ * and parses, validates, detects and formats the dates as a request handler does.<br>
+ * With virtual threads, all tasks are started and parked on a gate before they are released at once,
+ * so the given number of tasks run concurrently.<br>
+ * </DD>
+ * <DT>Usage:</DT>
+ * <DD>
+ * <strong>javac -d bin $(find src bench -name "*.java")</strong><br>
+ * <strong>java -cp bin com.utilkit.java.CalendarHandler.bench.VirtualThreadBenchmark [options]</strong><br>
+ * <br>
+ * -tasks n : The number of the concurrent tasks, default is 100000<br>
+ * -operations n : The number of the dates processed by a task, default is 16<br>
+ * -warmup n : The number of the rounds to warm up, default is 2<br>
+ * -rounds n : The number of the rounds to measure, default is 5<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * Virtual threads are created by reflection, so the benchmark is compiled for Java 11 and run on Java 21 or later.<br>
+ * If virtual threads are not available, the tasks are run by the platform threads of the number of the processors without the gate.<br>
+ * The pinned virtual threads are counted from the event of jdk.VirtualThreadPinned recorded by Flight Recorder, which must be 0.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CalendarHandlerBenchmark
+ */
+public final class VirtualThreadBenchmark {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The name of the event recorded when a virtual thread is pinned to its carrier thread.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the input dates, which must be a power of two.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int INPUT_SIZE = 1 << 12;
+
+	private static final int MASK = INPUT_SIZE - 1;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The dates in yyyy/MM/dd format used as the input, which are the same on every run.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final String[] DATES = createDates();
+
+	private VirtualThreadBenchmark() {}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Run the benchmark and print the results.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param args [i] The options of the benchmark
+	 * @throws Exception throws when the benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+
+		int tasks = 100000;
+		int operations = 16;
+		int warmup = 2;
+		int rounds = 5;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+			case "-tasks":
+				tasks = Integer.parseInt(args[i + 1]);
+				break;
+			case "-operations":
+				operations = Integer.parseInt(args[i + 1]);
+				break;
+			case "-warmup":
+				warmup = Integer.parseInt(args[i + 1]);
+				break;
+			case "-rounds":
+				rounds = Integer.parseInt(args[i + 1]);
+				break;
+			default:
+				throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", args[i]));
+			}
+		}
+
+		final boolean isVirtual = newVirtualThreadExecutor() != null;
+
+		System.out.println(String.format("# java.version=%s, vm=%s, processors=%d, threads=%s, tasks=%d, operations=%d, warmup=%d, rounds=%d",
+				System.getProperty("java.version"), System.getProperty("java.vm.name"), Runtime.getRuntime().availableProcessors(),
+				isVirtual ? "virtual" : "platform", tasks, operations, warmup, rounds));
+		System.out.println(String.format("%-8s %12s %12s %12s %8s %8s", "Round", "ms", "tasks/ms", "ops/us", "GCs", "Pinned"));
+
+		for (int round = 1; round <= warmup + rounds; round++) {
+
+			final Path file = Files.createTempFile("virtual-thread-benchmark", ".jfr");
+
+			try (Recording recording = new Recording()) {
+				recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+				recording.start();
+
+				final long gcCount = getGcCount();
+				final long nanos = runRound(tasks, operations);
+
+				recording.stop();
+				recording.dump(file);
+
+				final String label = round <= warmup ? "warmup" + round : "round" + (round - warmup);
+				final double millis = nanos / 1e6;
+
+				System.out.println(String.format("%-8s %12.1f %12.1f %12.2f %8d %8d",
+						label, millis, tasks / millis, (double) tasks * operations / (nanos / 1e3), getGcCount() - gcCount, countEvents(file, PINNED_EVENT)));
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Run all tasks once and return the elapsed time from the release of the tasks to the end of all tasks.<br>
+	 * Without virtual threads, the elapsed time is measured from the submission of the first task.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param tasks [i] The number of the tasks
+	 * @param operations [i] The number of the dates processed by a task
+	 * @return Returns the elapsed time in nanoseconds
+	 * @throws InterruptedException throws when the thread is interrupted
+	 */
+	private static long runRound(int tasks, int operations) throws InterruptedException {
+
+		final ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+		final boolean isVirtual = virtualThreadExecutor != null;
+		final ExecutorService executor = isVirtual ? virtualThreadExecutor : Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		final CountDownLatch gate = new CountDownLatch(isVirtual ? 1 : 0);
+		final CountDownLatch started = new CountDownLatch(isVirtual ? tasks : 0);
+		final CountDownLatch finished = new CountDownLatch(tasks);
+		final LongAdder checksum = new LongAdder();
+
+		try {
+			long start = System.nanoTime();
+
+			for (int task = 0; task < tasks; task++) {
+
+				final int first = task * operations;
+
+				executor.execute(() -> {
+					try {
+						started.countDown();
+						gate.await();
+						checksum.add(handle(first, operations));
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						finished.countDown();
+					}
+				});
+			}
+
+			if (isVirtual) {
+				started.await();
+				start = System.nanoTime();
+				gate.countDown();
+			}
+
+			finished.await();
+			final long nanos = System.nanoTime() - start;
+
+			if (checksum.sum() == 0L) {
+				throw new IllegalStateException("The result of the tasks is empty.");
+			}
+
+			return nanos;
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1L, TimeUnit.MINUTES);
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Process the dates as a request handler does.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param first [i] The index of the first date
+	 * @param operations [i] The number of the dates
+	 * @return Returns a value depending on the results of the operations
+	 */
+	private static long handle(int first, int operations) {
+
+		final CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.SLASH.getFormat());
+		final CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.HYPHEN);
+		long result = 0L;
+
+		for (int i = first; i < first + operations; i++) {
+
+			final String date = DATES[i & MASK];
+			final int packedDate = calendarHandler.toPackedDate(date);
+
+			result += calendarHandler.validate(date);
+			result += calendarHandler.getDayOfWeekInfoByDate(packedDate).getCode();
+			result += calendarHandler.getLastDayOfMonth(packedDate);
+			result += DateFormatDetector.getInstance().detect(date).getPackedDate();
+			result += compiledDateFormat.format(PackedDate.adjust(packedDate, 0, 1, 0)).length();
+		}
+
+		return result;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the executor which starts a new virtual thread for each task.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the executor, or {@code null} if virtual threads are not available
+	 */
+	private static ExecutorService newVirtualThreadExecutor() {
+
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | UnsupportedOperationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Count the events of the name in the recording.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param file [i] The file of the recording
+	 * @param name [i] The name of the event
+	 * @return Returns the number of the events
+	 * @throws Exception throws when the recording can not be read
+	 */
+	private static long countEvents(Path file, String name) throws Exception {
+
+		long count = 0L;
+
+		for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+			if (event.getEventType().getName().equals(name)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the total number of the garbage collections.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the garbage collections
+	 */
+	private static long getGcCount() {
+
+		long count = 0L;
+
+		for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0L, bean.getCollectionCount());
+		}
+
+		return count;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the dates in yyyy/MM/dd format from 1900-01-01 to 2099-12-28.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the dates
+	 */
+	private static String[] createDates() {
+
+		final CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.SLASH);
+		final String[] dates = new String[INPUT_SIZE];
+
+		for (int i = 0; i < INPUT_SIZE; i++) {
+			dates[i] = compiledDateFormat.format(PackedDate.of(1900 + i * 7 % 200, 1 + i % 12, 1 + i % 28));
+		}
+
+		return dates;
+	}
+}
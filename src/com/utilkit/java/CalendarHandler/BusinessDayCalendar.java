@@ -0,0 +1,710 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Calendar;
+import java.util.stream.IntStream;
+
+import com.utilkit.java.CalendarHandler.CalendarInfoEnum.WeekInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to calculate the business days over the range of the years.<br>
+ * The business days are held in the bit set indexed by the days from January 1 of the first year,
+ * and the number of the business days before each word of the bit set is precomputed.<br>
+ * So the number of the business days between the dates is calculated by the rank in constant time,
+ * and the date after the business days is calculated by the select in logarithmic time without looping day by day.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #of(int, int, int[])} to create the calendar with the weekend of {@link WeekInfo#isWeekend()}.<br>
+ * Use {@link #of(int, int, int, int[])} to create the calendar with the other weekend, such as Friday and Saturday.<br>
+ * Use {@link #of(int, int, HolidayCalendar)} to create the calendar with the holidays of the regions of {@link HolidayCalendar}.<br>
+ * The instance is immutable, so it can be shared between threads.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The day is a business day if it is neither the weekend nor the holiday.<br>
+ * The dates are passed and returned in yyyyMMdd form of {@link PackedDate}.<br>
+ * If the date passed as the argument is not valid or out of the years of the calendar, IllegalArgumentException will be thrown,
+ * and {@link PackedDate#INVALID} is returned only when the calculated date is out of the years of the calendar.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see PackedDate
+ * @see HolidayCalendar
+ */
+public final class BusinessDayCalendar {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The weekday mask of the days of week whose {@link WeekInfo#isWeekend()} is {@code true}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @see #weekendMaskOf(WeekInfo...)
+	 */
+	public static final int DEFAULT_WEEKEND_MASK = createDefaultWeekendMask();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The first and the last years of the calendar.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int fromYear;
+	private final int toYear;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The epoch day of January 1 of the first year.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int firstEpochDay;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the days of the calendar.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int dayCount;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The weekday mask of the weekend, the bit of {@code 1 << (dayOfWeek - 1)} is set for the weekend.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int weekendMask;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The bit set of the business days indexed by the days from the first epoch day.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final long[] words;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the business days before each word of the bit set, the last element is the number of all business days.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int[] ranks;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class and build the bit set of the business days.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param fromYear [i] The first year of the calendar
+	 * @param toYear [i] The last year of the calendar
+	 * @param weekendMask [i] The weekday mask of the weekend
+	 * @param holidays [i] The holidays in yyyyMMdd form, the holidays out of the years are ignored
+	 */
+	private BusinessDayCalendar(int fromYear, int toYear, int weekendMask, int[] holidays) {
+
+		final CalendarTable table = CalendarTable.getInstance();
+
+		this.fromYear = fromYear;
+		this.toYear = toYear;
+		this.firstEpochDay = table.toEpochDay(fromYear, 1, 1);
+		this.dayCount = CivilCalendar.toEpochDay(toYear + 1, 1, 1) - this.firstEpochDay;
+		this.weekendMask = weekendMask;
+		// one more word so that the rank of the day after the last day can be read
+		this.words = new long[(this.dayCount >>> 6) + 1];
+		this.ranks = new int[this.words.length + 1];
+
+		for (int offset = 0; offset < this.dayCount; offset++) {
+			if ((weekendMask & 1 << (CivilCalendar.dayOfWeek(this.firstEpochDay + offset) - 1)) == 0) {
+				this.words[offset >>> 6] |= 1L << offset;
+			}
+		}
+
+		for (int holiday : holidays) {
+
+			final int year = PackedDate.getYear(holiday);
+
+			if (year >= fromYear && year <= toYear) {
+
+				final int offset = PackedDate.toEpochDay(holiday) - this.firstEpochDay;
+
+				this.words[offset >>> 6] &= ~(1L << offset);
+			}
+		}
+
+		for (int i = 0; i < this.words.length; i++) {
+			this.ranks[i + 1] = this.ranks[i] + Long.bitCount(this.words[i]);
+		}
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the weekend of {@link #DEFAULT_WEEKEND_MASK} and the holidays.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param fromYear [i] The first year of the calendar
+	 * @param toYear [i] The last year of the calendar
+	 * @param holidays [i] The holidays in yyyyMMdd form, the holidays out of the years are ignored
+	 * @return Returns the business day calendar
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BusinessDayCalendar of(int fromYear, int toYear, int[] holidays) {
+
+		return of(fromYear, toYear, DEFAULT_WEEKEND_MASK, holidays);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the weekend and the holidays.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>BusinessDayCalendar.of(2020, 2030, BusinessDayCalendar.weekendMaskOf(WeekInfo.Friday, WeekInfo.Saturday), holidays);</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param fromYear [i] The first year of the calendar
+	 * @param toYear [i] The last year of the calendar
+	 * @param weekendMask [i] The weekday mask of the weekend
+	 * @param holidays [i] The holidays in yyyyMMdd form, the holidays out of the years are ignored
+	 * @return Returns the business day calendar
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see #weekendMaskOf(WeekInfo...)
+	 */
+	public static BusinessDayCalendar of(int fromYear, int toYear, int weekendMask, int[] holidays) {
+
+		if (fromYear < PackedDate.MIN_YEAR || fromYear > toYear || toYear > PackedDate.MAX_YEAR) {
+			throw new IllegalArgumentException(String.format("Parameter [%d, %d] is a invalid range.", fromYear, toYear));
+		}
+
+		if (weekendMask < 0 || weekendMask > 0x7F) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", weekendMask));
+		}
+
+		if (holidays == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		for (int holiday : holidays) {
+			if (!PackedDate.isValid(holiday)) {
+				throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", holiday));
+			}
+		}
+
+		return new BusinessDayCalendar(fromYear, toYear, weekendMask, holidays);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the weekend of {@link #DEFAULT_WEEKEND_MASK} and the holidays of the regions.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>BusinessDayCalendar.of(2020, 2030, HolidayCalendar.of(Region.JAPAN));</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param fromYear [i] The first year of the calendar
+	 * @param toYear [i] The last year of the calendar
+	 * @param holidayCalendar [i] The holidays of the regions
+	 * @return Returns the business day calendar
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BusinessDayCalendar of(int fromYear, int toYear, HolidayCalendar holidayCalendar) {
+
+		return of(fromYear, toYear, DEFAULT_WEEKEND_MASK, holidayCalendar);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the weekend and the holidays of the regions.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param fromYear [i] The first year of the calendar
+	 * @param toYear [i] The last year of the calendar
+	 * @param weekendMask [i] The weekday mask of the weekend
+	 * @param holidayCalendar [i] The holidays of the regions
+	 * @return Returns the business day calendar
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see #weekendMaskOf(WeekInfo...)
+	 */
+	public static BusinessDayCalendar of(int fromYear, int toYear, int weekendMask, HolidayCalendar holidayCalendar) {
+
+		if (holidayCalendar == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		final IntStream.Builder holidays = IntStream.builder();
+
+		// the range is validated by the other factory, so only the years within the range of the packed date are read here
+		for (int year = Math.max(fromYear, PackedDate.MIN_YEAR); year <= Math.min(toYear, PackedDate.MAX_YEAR); year++) {
+			for (int holiday : holidayCalendar.getHolidays(year)) {
+				holidays.add(holiday);
+			}
+		}
+
+		return of(fromYear, toYear, weekendMask, holidays.build().toArray());
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the weekday mask of the days of week.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekInfos [i] The days of week of the weekend
+	 * @return Returns the weekday mask
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static int weekendMaskOf(WeekInfo... weekInfos) {
+
+		if (weekInfos == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		int weekendMask = 0;
+
+		for (WeekInfo weekInfo : weekInfos) {
+
+			if (weekInfo == null) {
+				throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+			}
+
+			weekendMask |= 1 << (weekInfo.getCode() - Calendar.SUNDAY);
+		}
+
+		return weekendMask;
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the date is a business day or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns {@code true} if the date is a business day, or {@code false}
+	 * @throws IllegalArgumentException throws when the date is not valid or out of the years of the calendar
+	 */
+	public boolean isBusinessDay(int packedDate) {
+
+		final int offset = this.checkOffset(packedDate);
+
+		return (this.words[offset >>> 6] & 1L << offset) != 0;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the first business day after the date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the business day is out of the years of the calendar, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the next business day, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the date is not valid or out of the years of the calendar
+	 */
+	public int nextBusinessDay(int packedDate) {
+
+		final int offset = this.checkOffset(packedDate);
+
+		return this.toPackedDate(this.select(this.rank(offset + 1)));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the last business day before the date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the business day is out of the years of the calendar, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the previous business day, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the date is not valid or out of the years of the calendar
+	 */
+	public int previousBusinessDay(int packedDate) {
+
+		final int offset = this.checkOffset(packedDate);
+
+		return this.toPackedDate(this.select(this.rank(offset) - 1));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Increase or decrease the date by the business days.<br>
+	 * If the amount is positive, the date is the business day of the amount after the date,
+	 * and if it is negative, the date is the business day of the amount before the date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the amount is 0, the date itself will be returned even if it is not a business day.<br>
+	 * If the adjusted date is out of the years of the calendar, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>BusinessDayCalendar calendar = BusinessDayCalendar.of(2019, 2019, new int[0]);</strong><br>
+	 * <strong>calendar.addBusinessDays(20190215, 1);</strong><br>
+	 * <strong>then 20190218</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @param amount [i] Increase / Decrease in business day
+	 * @return Returns the adjusted date, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the date is not valid or out of the years of the calendar
+	 */
+	public int addBusinessDays(int packedDate, int amount) {
+
+		final int offset = this.checkOffset(packedDate);
+
+		if (amount == 0) {
+			return packedDate;
+		}
+
+		// the rank of the business days until the date, which includes the date itself only when the amount is positive
+		final long rank = amount > 0 ? this.rank(offset + 1) + (long) amount - 1 : this.rank(offset) + (long) amount;
+
+		if (rank < 0 || rank >= this.ranks[this.ranks.length - 1]) {
+			return PackedDate.INVALID;
+		}
+
+		return this.toPackedDate(this.select((int) rank));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the business days from the start date, inclusive, to the end date, exclusive.<br>
+	 * If the end date is before the start date, the negative number will be returned.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * Both dates can be January 1 of the year after the last year of the calendar,
+	 * so the business days until the end of the calendar can be counted.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>BusinessDayCalendar calendar = BusinessDayCalendar.of(2019, 2019, new int[0]);</strong><br>
+	 * <strong>calendar.countBusinessDays(20190211, 20190218);</strong><br>
+	 * <strong>then 5</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param startDate [i] The start date in yyyyMMdd form, inclusive
+	 * @param endDate [i] The end date in yyyyMMdd form, exclusive
+	 * @return Returns the number of the business days
+	 * @throws IllegalArgumentException throws when the date is not valid or out of the range of the calendar
+	 */
+	public int countBusinessDays(int startDate, int endDate) {
+
+		final int startOffset = this.toBoundary(startDate);
+		final int endOffset = this.toBoundary(endDate);
+
+		if (startOffset < 0 || endOffset < 0) {
+			throw new IllegalArgumentException(String.format("Parameter [%d, %d] is a invalid range.", startDate, endDate));
+		}
+
+		return this.rank(endOffset) - this.rank(startOffset);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the first year of the calendar.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the first year
+	 */
+	public int getFromYear() {
+
+		return this.fromYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the last year of the calendar.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the last year
+	 */
+	public int getToYear() {
+
+		return this.toYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the weekday mask of the weekend.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the weekday mask
+	 */
+	public int getWeekendMask() {
+
+		return this.weekendMask;
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the packed date to the index of the bit set.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the index of the bit set, or -1 if the date is not valid or out of the years
+	 */
+	private int toOffset(int packedDate) {
+
+		if (!PackedDate.isValid(packedDate)) {
+			return -1;
+		}
+
+		final int year = PackedDate.getYear(packedDate);
+
+		if (year < this.fromYear || year > this.toYear) {
+			return -1;
+		}
+
+		return PackedDate.toEpochDay(packedDate) - this.firstEpochDay;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the packed date passed as the argument to the index of the bit set.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the index of the bit set
+	 * @throws IllegalArgumentException throws when the date is not valid or out of the years of the calendar
+	 */
+	private int checkOffset(int packedDate) {
+
+		final int offset = this.toOffset(packedDate);
+
+		if (offset < 0) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", packedDate));
+		}
+
+		return offset;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the packed date to the boundary between the days of the bit set.<br>
+	 * The boundary is the index of the bit set, or the number of the days for January 1 of the year after the last year.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the boundary from 0 to the number of the days, or -1 if the date is not valid or out of the range
+	 */
+	private int toBoundary(int packedDate) {
+
+		if (PackedDate.isValid(packedDate) && PackedDate.getYear(packedDate) == this.toYear + 1) {
+			return PackedDate.getMonth(packedDate) == 1 && PackedDate.getDay(packedDate) == 1 ? this.dayCount : -1;
+		}
+
+		return this.toOffset(packedDate);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the index of the bit set to the packed date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param offset [i] The index of the bit set, or -1
+	 * @return Returns the packed date, or {@link PackedDate#INVALID} if the index is -1
+	 */
+	private int toPackedDate(int offset) {
+
+		if (offset < 0) {
+			return PackedDate.INVALID;
+		}
+
+		return PackedDate.ofEpochDay(this.firstEpochDay + offset);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the business days before the index.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param offset [i] The index of the bit set from 0 to the number of the days
+	 * @return Returns the number of the business days
+	 */
+	private int rank(int offset) {
+
+		final int index = offset >>> 6;
+
+		return this.ranks[index] + Long.bitCount(this.words[index] & ((1L << offset) - 1));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the index of the business day of the rank.<br>
+	 * The word is searched by the binary search of the ranks, and the bit is searched in the word.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param rank [i] The rank of the business day from 0
+	 * @return Returns the index of the bit set, or -1 if the rank is out of the business days
+	 */
+	private int select(int rank) {
+
+		if (rank < 0 || rank >= this.ranks[this.ranks.length - 1]) {
+			return -1;
+		}
+
+		// the last word whose rank is not greater than the rank
+		int low = 0;
+		int high = this.words.length - 1;
+
+		while (low < high) {
+
+			final int middle = (low + high + 1) >>> 1;
+
+			if (this.ranks[middle] <= rank) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		long word = this.words[low];
+
+		for (int i = rank - this.ranks[low]; i > 0; i--) {
+			// clear the lowest bit
+			word &= word - 1;
+		}
+
+		return (low << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the weekday mask of the days of week whose {@link WeekInfo#isWeekend()} is {@code true}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the weekday mask
+	 */
+	private static int createDefaultWeekendMask() {
+
+		int weekendMask = 0;
+
+		for (WeekInfo weekInfo : WeekInfo.values()) {
+			if (weekInfo.isWeekend()) {
+				weekendMask |= weekendMaskOf(weekInfo);
+			}
+		}
+
+		return weekendMask;
+	}
+}
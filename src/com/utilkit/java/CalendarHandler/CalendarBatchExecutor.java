@@ -0,0 +1,569 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to run the functions of {@link CalendarBatchHandler} in parallel on {@link ForkJoinPool}.<br>
+ * The column of dates is split into the chunks until the length of the chunk is less than the threshold,
+ * and each chunk is processed independently in the sequential loop.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #getInstance()} to run on the common pool, or {@link #getInstance(ForkJoinPool, int)} to run on the pool of the caller.<br>
+ * The instance is immutable, so it can be shared between threads.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The chunks are split at the multiple of 64 indexes, so each chunk sets the invalid indexes to its own words of the bit set without locking.<br>
+ * The results are the same as the functions of {@link CalendarBatchHandler} regardless of the number of the threads.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CalendarBatchHandler
+ */
+public final class CalendarBatchExecutor {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The default number of the dates processed sequentially in a chunk.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int DEFAULT_THRESHOLD = 1 << 15;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The pool to run the chunks.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the dates processed sequentially in a chunk, which is a multiple of 64.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int threshold;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class with the pool and the threshold.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param pool [i] The pool to run the chunks
+	 * @param threshold [i] The number of the dates processed sequentially in a chunk
+	 */
+	private CalendarBatchExecutor(ForkJoinPool pool, int threshold) {
+
+		this.pool = pool;
+		this.threshold = threshold;
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the common pool and the default threshold.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the executor running on the common pool
+	 *
+	 * @see ForkJoinPool#commonPool()
+	 * @see #DEFAULT_THRESHOLD
+	 */
+	public static CalendarBatchExecutor getInstance() {
+
+		return InstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the pool and the threshold.<br>
+	 * The threshold is rounded up to a multiple of 64.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param pool [i] The pool to run the chunks
+	 * @param threshold [i] The number of the dates processed sequentially in a chunk
+	 * @return Returns the executor running on the pool
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static CalendarBatchExecutor getInstance(ForkJoinPool pool, int threshold) {
+
+		if (pool == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (threshold < 1 || threshold > Integer.MAX_VALUE - 63) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", threshold));
+		}
+
+		return new CalendarBatchExecutor(pool, (threshold + 63) & ~63);
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Increase or decrease each date in parallel in the order of year, month and day.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The adjusted dates in yyyyMMdd form
+	 * @param amountYear [i] Increase / Decrease in Year
+	 * @param amountMonth [i] Increase / Decrease in Month
+	 * @param amountDay [i] Increase / Decrease in day
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarBatchHandler#adjustDate(int[], int[], int, int, int)
+	 */
+	public BitSet adjustDate(int[] in, int[] out, int amountYear, int amountMonth, int amountDay) {
+
+		checkLength(in == null ? -1 : in.length, out == null ? -1 : out.length);
+
+		return this.invoke("adjustDate", null, in.length,
+				(from, to, invalidWords) -> CalendarBatchHandler.adjustDate(in, out, from, to, amountYear, amountMonth, amountDay, invalidWords, 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the code value of the day of week of each date in parallel.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The code values of the day of week
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarBatchHandler#dayOfWeek(int[], byte[])
+	 */
+	public BitSet dayOfWeek(int[] in, byte[] out) {
+
+		checkLength(in == null ? -1 : in.length, out == null ? -1 : out.length);
+
+		return this.invoke("dayOfWeek", null, in.length, (from, to, invalidWords) -> CalendarBatchHandler.dayOfWeek(in, out, from, to, invalidWords, 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the beginning day of the week of each date in parallel.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The beginning days of the week in yyyyMMdd form
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarBatchHandler#beginningDateOfWeek(WeekDefinition, int[], int[])
+	 */
+	public BitSet beginningDateOfWeek(WeekDefinition weekDefinition, int[] in, int[] out) {
+
+		CalendarBatchHandler.checkWeekDefinition(weekDefinition);
+		checkLength(in == null ? -1 : in.length, out == null ? -1 : out.length);
+
+		return this.invoke("beginningDateOfWeek", null, in.length, (from, to, invalidWords) -> CalendarBatchHandler.beginningDateOfWeek(weekDefinition, in, out, from, to, invalidWords, 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the week-based year and the week of each date in yyyyww form in parallel.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The week-based years and the weeks in yyyyww form
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarBatchHandler#yearWeek(WeekDefinition, int[], int[])
+	 */
+	public BitSet yearWeek(WeekDefinition weekDefinition, int[] in, int[] out) {
+
+		CalendarBatchHandler.checkWeekDefinition(weekDefinition);
+		checkLength(in == null ? -1 : in.length, out == null ? -1 : out.length);
+
+		return this.invoke("yearWeek", null, in.length, (from, to, invalidWords) -> CalendarBatchHandler.yearWeek(weekDefinition, in, out, from, to, invalidWords, 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the last day of the month of each date in parallel.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The last days of the month
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarBatchHandler#lastDayOfMonth(int[], byte[])
+	 */
+	public BitSet lastDayOfMonth(int[] in, byte[] out) {
+
+		checkLength(in == null ? -1 : in.length, out == null ? -1 : out.length);
+
+		return this.invoke("lastDayOfMonth", null, in.length, (from, to, invalidWords) -> CalendarBatchHandler.lastDayOfMonth(in, out, from, to, invalidWords, 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the epoch day of each date in parallel.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The number of days from 1970-01-01
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarBatchHandler#toEpochDay(int[], int[])
+	 */
+	public BitSet toEpochDay(int[] in, int[] out) {
+
+		checkLength(in == null ? -1 : in.length, out == null ? -1 : out.length);
+
+		return this.invoke("toEpochDay", null, in.length, (from, to, invalidWords) -> CalendarBatchHandler.toEpochDay(in, out, from, to, invalidWords, 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse each date in parallel with the compiled format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The dates
+	 * @param out [o] The packed dates in yyyyMMdd form
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarBatchHandler#parse(CompiledDateFormat, CharSequence[], int[])
+	 */
+	public BitSet parse(CompiledDateFormat compiledDateFormat, CharSequence[] in, int[] out) {
+
+		if (compiledDateFormat == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkLength(in == null ? -1 : in.length, out == null ? -1 : out.length);
+
+		return this.invoke("parse", compiledDateFormat.getDateFormatInfo(), in.length, (from, to, invalidWords) -> CalendarBatchHandler.parse(compiledDateFormat, in, out, from, to, invalidWords, 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse each date of the list in parallel with the compiled format.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The list which does not support the random access such as {@link java.util.LinkedList} is copied to the array before processing.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The dates
+	 * @param out [o] The packed dates in yyyyMMdd form
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public BitSet parse(CompiledDateFormat compiledDateFormat, List<? extends CharSequence> in, int[] out) {
+
+		if (compiledDateFormat == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkLength(in == null ? -1 : in.size(), out == null ? -1 : out.length);
+
+		if (!(in instanceof RandomAccess)) {
+			return this.parse(compiledDateFormat, in.toArray(new CharSequence[in.size()]), out);
+		}
+
+		return this.invoke("parse", compiledDateFormat.getDateFormatInfo(), in.size(), (from, to, invalidWords) -> {
+			for (int i = from; i < to; i++) {
+
+				final int packedDate = compiledDateFormat.parse(in.get(i));
+
+				out[i] = packedDate;
+
+				if (packedDate == PackedDate.INVALID) {
+					invalidWords[i >>> 6] |= 1L << i;
+				}
+			}
+		});
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format each packed date in parallel with the compiled format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The formatted dates
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarBatchHandler#format(CompiledDateFormat, int[], String[])
+	 */
+	public BitSet format(CompiledDateFormat compiledDateFormat, int[] in, String[] out) {
+
+		if (compiledDateFormat == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkLength(in == null ? -1 : in.length, out == null ? -1 : out.length);
+
+		return this.invoke("format", compiledDateFormat.getDateFormatInfo(), in.length, (from, to, invalidWords) -> CalendarBatchHandler.format(compiledDateFormat, in, out, from, to, invalidWords, 0));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the dates processed sequentially in a chunk.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the threshold
+	 */
+	public int getThreshold() {
+
+		return this.threshold;
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Run the operation for the whole range on the pool and return the invalid indexes.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param name [i] The name of the operation recorded in {@link DateBatchEvent}
+	 * @param dateFormatInfo [i] The date format information, or null if the operation does not use the format
+	 * @param length [i] The number of the dates
+	 * @param operation [i] The operation for a chunk
+	 * @return Returns the indexes of the invalid dates
+	 */
+	private BitSet invoke(String name, DateFormatInfo dateFormatInfo, int length, RangeOperation operation) {
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final long[] invalidWords = new long[CalendarBatchHandler.wordCount(length)];
+		final boolean isParallel = length > this.threshold;
+
+		if (!isParallel) {
+			// not worth submitting to the pool
+			operation.apply(0, length, invalidWords);
+		} else {
+			this.pool.invoke(new ChunkAction(operation, invalidWords, 0, length, this.threshold));
+		}
+
+		event.end(name, dateFormatInfo, length, invalidWords, isParallel);
+
+		return BitSet.valueOf(invalidWords);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate the length of the input and the output.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param inLength [i] The length of the input, or -1 if it is null
+	 * @param outLength [i] The length of the output, or -1 if it is null
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	private static void checkLength(int inLength, int outLength) {
+
+		if (inLength < 0 || outLength < 0) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (outLength < inLength) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid length.", outLength));
+		}
+	}
+
+	// ================= inner classes =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Holder class to initialise the executor running on the common pool lazily.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final class InstanceHolder {
+
+		private static final CalendarBatchExecutor INSTANCE = new CalendarBatchExecutor(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The operation for the range of the indexes of a chunk.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	@FunctionalInterface
+	private interface RangeOperation {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Process the dates within the range of the indexes.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param from [i] The first index, inclusive
+		 * @param to [i] The last index, exclusive
+		 * @param invalidWords [o] The words of the bit set of the invalid indexes
+		 */
+		void apply(int from, int to, long[] invalidWords);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The action to split the range in half until the length is less than the threshold.<br>
+	 * The range is split at a multiple of 64, so the chunks do not share any word of the bit set.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final class ChunkAction extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient RangeOperation operation;
+		private final long[] invalidWords;
+		private final int from;
+		private final int to;
+		private final int threshold;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to initialise the action for the range.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param operation [i] The operation for a chunk
+		 * @param invalidWords [o] The words of the bit set of the invalid indexes
+		 * @param from [i] The first index, inclusive, which is a multiple of 64
+		 * @param to [i] The last index, exclusive
+		 * @param threshold [i] The number of the dates processed sequentially in a chunk
+		 */
+		private ChunkAction(RangeOperation operation, long[] invalidWords, int from, int to, int threshold) {
+
+			this.operation = operation;
+			this.invalidWords = invalidWords;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+
+			final int length = this.to - this.from;
+
+			if (length <= this.threshold) {
+				this.operation.apply(this.from, this.to, this.invalidWords);
+				return;
+			}
+
+			// the threshold is at least 64, so the both halves are not empty
+			final int middle = this.from + Math.max(64, (length >>> 1) & ~63);
+
+			invokeAll(new ChunkAction(this.operation, this.invalidWords, this.from, middle, this.threshold),
+					new ChunkAction(this.operation, this.invalidWords, middle, this.to, this.threshold));
+		}
+	}
+}
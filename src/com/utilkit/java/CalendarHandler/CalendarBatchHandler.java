@@ -0,0 +1,967 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.BitSet;
+
+import com.utilkit.java.CalendarHandler.CalendarInfoEnum.WeekInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to provide functions to manipulate the whole column of dates at once.<br>
+ * The dates are passed as the array of the packed date in yyyyMMdd form, and the results are written to the array passed as the argument.<br>
+ * Each function processes the array in a tight loop of the integer arithmetic, without creating any object for each date.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The indexes of the invalid dates are returned as {@link BitSet} instead of the sentinel values such as null, empty string or -1.<br>
+ * The result for the invalid date is {@link PackedDate#INVALID} for the int array, 0 for the byte array and null for the String array.<br>
+ * The functions with the range of indexes can be used to split the column into the chunks, and the invalid indexes are set to the BitSet passed as the argument.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * As with {@link PackedDate}, the dates follow the proleptic Gregorian calendar from 0001-01-01 to 9999-12-31.<br>
+ * The input array and the output array can be the same array for the functions writing to the int array.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see PackedDate
+ * @see CivilCalendar
+ * @see CompiledDateFormat
+ */
+public final class CalendarBatchHandler {
+
+	private CalendarBatchHandler() {}
+
+	// ================= adjustDate =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Increase or decrease each date in the order of year, month and day.<br>
+	 * As with {@link CalendarHandler#adjustDate(int, int, int, int)}, the day is adjusted to the last day of the month if it does not exist.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>int[] dates = { 20190216, 20190231 };</strong><br>
+	 * <strong>BitSet invalid = CalendarBatchHandler.adjustDate(dates, dates, 0, 1, 0);</strong><br>
+	 * <strong>then dates is { 20190316, -1 } and invalid is {1}</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The adjusted dates in yyyyMMdd form
+	 * @param amountYear [i] Increase / Decrease in Year
+	 * @param amountMonth [i] Increase / Decrease in Month
+	 * @param amountDay [i] Increase / Decrease in day
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BitSet adjustDate(int[] in, int[] out, int amountYear, int amountMonth, int amountDay) {
+
+		final BitSet invalid = new BitSet();
+		adjustDate(in, out, 0, lengthOf(in), amountYear, amountMonth, amountDay, invalid);
+
+		return invalid;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Increase or decrease each date within the range of the indexes in the order of year, month and day.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The adjusted dates in yyyyMMdd form
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param amountYear [i] Increase / Decrease in Year
+	 * @param amountMonth [i] Increase / Decrease in Month
+	 * @param amountDay [i] Increase / Decrease in day
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see PackedDate#adjust(int, int, int, int)
+	 */
+	public static void adjustDate(int[] in, int[] out, int from, int to, int amountYear, int amountMonth, int amountDay, BitSet invalid) {
+
+		checkRange(in, out == null ? -1 : out.length, from, to, invalid);
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final int firstWord = from >>> 6;
+		final long[] invalidWords = new long[wordCount(to) - firstWord];
+		adjustDate(in, out, from, to, amountYear, amountMonth, amountDay, invalidWords, firstWord);
+
+		event.end("adjustDate", null, to - from, invalidWords, false);
+
+		setAll(invalid, invalidWords, firstWord);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The loop of {@link #adjustDate(int[], int[], int, int, int, int, int, BitSet)}.<br>
+	 * The invalid indexes are set to the words of the bit set, so the ranges aligned to 64 indexes can be processed in parallel without locking.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The adjusted dates in yyyyMMdd form
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param amountYear [i] Increase / Decrease in Year
+	 * @param amountMonth [i] Increase / Decrease in Month
+	 * @param amountDay [i] Increase / Decrease in day
+	 * @param invalidWords [o] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	static void adjustDate(int[] in, int[] out, int from, int to, int amountYear, int amountMonth, int amountDay, long[] invalidWords, int firstWord) {
+
+		if (amountYear == 0 && amountMonth == 0) {
+			// only the days are added, so the date is moved on the epoch day
+			for (int i = from; i < to; i++) {
+
+				final int packedDate = in[i];
+				final long epochDay = PackedDate.isValid(packedDate) ? (long) PackedDate.toEpochDay(packedDate) + amountDay : Long.MIN_VALUE;
+				final int adjustedDate = PackedDate.ofEpochDay(epochDay);
+
+				out[i] = adjustedDate;
+
+				if (adjustedDate == PackedDate.INVALID) {
+					invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+				}
+			}
+
+			return;
+		}
+
+		for (int i = from; i < to; i++) {
+
+			final int adjustedDate = PackedDate.adjust(in[i], amountYear, amountMonth, amountDay);
+
+			out[i] = adjustedDate;
+
+			if (adjustedDate == PackedDate.INVALID) {
+				invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+			}
+		}
+	}
+
+	// ================= dayOfWeek =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the code value of {@link WeekInfo} of each date.<br>
+	 * The code value follows the constant of the calendar class, so it is from 1 (Sunday) to 7 (Saturday).<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>byte[] out = new byte[2];</strong><br>
+	 * <strong>BitSet invalid = CalendarBatchHandler.dayOfWeek(new int[] { 20190216, 20190231 }, out);</strong><br>
+	 * <strong>then out is { 7, 0 } and invalid is {1}</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The code values of the day of week
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BitSet dayOfWeek(int[] in, byte[] out) {
+
+		final BitSet invalid = new BitSet();
+		dayOfWeek(in, out, 0, lengthOf(in), invalid);
+
+		return invalid;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the code value of {@link WeekInfo} of each date within the range of the indexes.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The code values of the day of week
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CivilCalendar#dayOfWeek(int)
+	 */
+	public static void dayOfWeek(int[] in, byte[] out, int from, int to, BitSet invalid) {
+
+		checkRange(in, out == null ? -1 : out.length, from, to, invalid);
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final int firstWord = from >>> 6;
+		final long[] invalidWords = new long[wordCount(to) - firstWord];
+		dayOfWeek(in, out, from, to, invalidWords, firstWord);
+
+		event.end("dayOfWeek", null, to - from, invalidWords, false);
+
+		setAll(invalid, invalidWords, firstWord);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The loop of {@link #dayOfWeek(int[], byte[], int, int, BitSet)}.<br>
+	 * The invalid indexes are set to the words of the bit set, so the ranges aligned to 64 indexes can be processed in parallel without locking.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The code values of the day of week
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalidWords [o] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	static void dayOfWeek(int[] in, byte[] out, int from, int to, long[] invalidWords, int firstWord) {
+
+		for (int i = from; i < to; i++) {
+
+			final int packedDate = in[i];
+
+			if (PackedDate.isValid(packedDate)) {
+				out[i] = (byte) CalendarTable.getInstance().dayOfWeek(PackedDate.getYear(packedDate), PackedDate.getMonth(packedDate), PackedDate.getDay(packedDate));
+			} else {
+				out[i] = 0;
+				invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+			}
+		}
+	}
+
+	// ================= week =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the beginning day of the week of each date.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>int[] dates = { 20190216, 20190231 };</strong><br>
+	 * <strong>BitSet invalid = CalendarBatchHandler.beginningDateOfWeek(WeekDefinition.ISO, dates, dates);</strong><br>
+	 * <strong>then dates is { 20190211, -1 } and invalid is {1}</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The beginning days of the week in yyyyMMdd form
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BitSet beginningDateOfWeek(WeekDefinition weekDefinition, int[] in, int[] out) {
+
+		final BitSet invalid = new BitSet();
+		beginningDateOfWeek(weekDefinition, in, out, 0, lengthOf(in), invalid);
+
+		return invalid;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the beginning day of the week of each date within the range of the indexes.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The beginning days of the week in yyyyMMdd form
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see WeekDefinition#getBeginningDateOfWeek(int)
+	 */
+	public static void beginningDateOfWeek(WeekDefinition weekDefinition, int[] in, int[] out, int from, int to, BitSet invalid) {
+
+		checkWeekDefinition(weekDefinition);
+		checkRange(in, out == null ? -1 : out.length, from, to, invalid);
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final int firstWord = from >>> 6;
+		final long[] invalidWords = new long[wordCount(to) - firstWord];
+		beginningDateOfWeek(weekDefinition, in, out, from, to, invalidWords, firstWord);
+
+		event.end("beginningDateOfWeek", null, to - from, invalidWords, false);
+
+		setAll(invalid, invalidWords, firstWord);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The loop of {@link #beginningDateOfWeek(WeekDefinition, int[], int[], int, int, BitSet)}.<br>
+	 * The invalid indexes are set to the words of the bit set, so the ranges aligned to 64 indexes can be processed in parallel without locking.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The beginning days of the week in yyyyMMdd form
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalidWords [o] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	static void beginningDateOfWeek(WeekDefinition weekDefinition, int[] in, int[] out, int from, int to, long[] invalidWords, int firstWord) {
+
+		for (int i = from; i < to; i++) {
+
+			final int weekStart = weekDefinition.getBeginningDateOfWeek(in[i]);
+
+			out[i] = weekStart;
+
+			if (weekStart == PackedDate.INVALID) {
+				invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+			}
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the week-based year and the week of each date in yyyyww form, which can be used as the key of the weekly aggregation.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>int[] out = new int[2];</strong><br>
+	 * <strong>BitSet invalid = CalendarBatchHandler.yearWeek(WeekDefinition.ISO, new int[] { 20181231, 20190231 }, out);</strong><br>
+	 * <strong>then out is { 201901, -1 } and invalid is {1}</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The week-based years and the weeks in yyyyww form
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BitSet yearWeek(WeekDefinition weekDefinition, int[] in, int[] out) {
+
+		final BitSet invalid = new BitSet();
+		yearWeek(weekDefinition, in, out, 0, lengthOf(in), invalid);
+
+		return invalid;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the week-based year and the week of each date within the range of the indexes in yyyyww form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The week-based years and the weeks in yyyyww form
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see WeekDefinition#getYearWeek(int)
+	 */
+	public static void yearWeek(WeekDefinition weekDefinition, int[] in, int[] out, int from, int to, BitSet invalid) {
+
+		checkWeekDefinition(weekDefinition);
+		checkRange(in, out == null ? -1 : out.length, from, to, invalid);
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final int firstWord = from >>> 6;
+		final long[] invalidWords = new long[wordCount(to) - firstWord];
+		yearWeek(weekDefinition, in, out, from, to, invalidWords, firstWord);
+
+		event.end("yearWeek", null, to - from, invalidWords, false);
+
+		setAll(invalid, invalidWords, firstWord);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The loop of {@link #yearWeek(WeekDefinition, int[], int[], int, int, BitSet)}.<br>
+	 * The invalid indexes are set to the words of the bit set, so the ranges aligned to 64 indexes can be processed in parallel without locking.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The week-based years and the weeks in yyyyww form
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalidWords [o] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	static void yearWeek(WeekDefinition weekDefinition, int[] in, int[] out, int from, int to, long[] invalidWords, int firstWord) {
+
+		for (int i = from; i < to; i++) {
+
+			final int yearWeek = weekDefinition.getYearWeek(in[i]);
+
+			out[i] = yearWeek;
+
+			if (yearWeek == PackedDate.INVALID) {
+				invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+			}
+		}
+	}
+
+	// ================= lastDayOfMonth =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the last day of the month of each date.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>byte[] out = new byte[2];</strong><br>
+	 * <strong>BitSet invalid = CalendarBatchHandler.lastDayOfMonth(new int[] { 20200216, 20190231 }, out);</strong><br>
+	 * <strong>then out is { 29, 0 } and invalid is {1}</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The last days of the month
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BitSet lastDayOfMonth(int[] in, byte[] out) {
+
+		final BitSet invalid = new BitSet();
+		lastDayOfMonth(in, out, 0, lengthOf(in), invalid);
+
+		return invalid;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the last day of the month of each date within the range of the indexes.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The last days of the month
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CivilCalendar#lengthOfMonth(int, int)
+	 */
+	public static void lastDayOfMonth(int[] in, byte[] out, int from, int to, BitSet invalid) {
+
+		checkRange(in, out == null ? -1 : out.length, from, to, invalid);
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final int firstWord = from >>> 6;
+		final long[] invalidWords = new long[wordCount(to) - firstWord];
+		lastDayOfMonth(in, out, from, to, invalidWords, firstWord);
+
+		event.end("lastDayOfMonth", null, to - from, invalidWords, false);
+
+		setAll(invalid, invalidWords, firstWord);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The loop of {@link #lastDayOfMonth(int[], byte[], int, int, BitSet)}.<br>
+	 * The invalid indexes are set to the words of the bit set, so the ranges aligned to 64 indexes can be processed in parallel without locking.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The last days of the month
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalidWords [o] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	static void lastDayOfMonth(int[] in, byte[] out, int from, int to, long[] invalidWords, int firstWord) {
+
+		for (int i = from; i < to; i++) {
+
+			final int packedDate = in[i];
+
+			if (PackedDate.isValid(packedDate)) {
+				out[i] = (byte) CalendarTable.getInstance().lengthOfMonth(PackedDate.getYear(packedDate), PackedDate.getMonth(packedDate));
+			} else {
+				out[i] = 0;
+				invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+			}
+		}
+	}
+
+	// ================= toEpochDay =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the epoch day of each date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The result for the invalid date is {@link Integer#MIN_VALUE}, because every int can be a valid epoch day.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The number of days from 1970-01-01
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BitSet toEpochDay(int[] in, int[] out) {
+
+		final BitSet invalid = new BitSet();
+		toEpochDay(in, out, 0, lengthOf(in), invalid);
+
+		return invalid;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Write the epoch day of each date within the range of the indexes.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The number of days from 1970-01-01
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static void toEpochDay(int[] in, int[] out, int from, int to, BitSet invalid) {
+
+		checkRange(in, out == null ? -1 : out.length, from, to, invalid);
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final int firstWord = from >>> 6;
+		final long[] invalidWords = new long[wordCount(to) - firstWord];
+		toEpochDay(in, out, from, to, invalidWords, firstWord);
+
+		event.end("toEpochDay", null, to - from, invalidWords, false);
+
+		setAll(invalid, invalidWords, firstWord);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The loop of {@link #toEpochDay(int[], int[], int, int, BitSet)}.<br>
+	 * The invalid indexes are set to the words of the bit set, so the ranges aligned to 64 indexes can be processed in parallel without locking.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The number of days from 1970-01-01
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalidWords [o] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	static void toEpochDay(int[] in, int[] out, int from, int to, long[] invalidWords, int firstWord) {
+
+		for (int i = from; i < to; i++) {
+
+			final int packedDate = in[i];
+
+			if (PackedDate.isValid(packedDate)) {
+				out[i] = PackedDate.toEpochDay(packedDate);
+			} else {
+				out[i] = Integer.MIN_VALUE;
+				invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+			}
+		}
+	}
+
+	// ================= parse / format =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse each date with the compiled format and write it as the packed date in yyyyMMdd form.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>int[] out = new int[2];</strong><br>
+	 * <strong>BitSet invalid = CalendarBatchHandler.parse(CompiledDateFormat.of(DateFormatInfo.SLASH), new String[] { "2019/02/16", "2019/02/31" }, out);</strong><br>
+	 * <strong>then out is { 20190216, -1 } and invalid is {1}</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The dates
+	 * @param out [o] The packed dates in yyyyMMdd form
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BitSet parse(CompiledDateFormat compiledDateFormat, CharSequence[] in, int[] out) {
+
+		final BitSet invalid = new BitSet();
+		parse(compiledDateFormat, in, out, 0, in == null ? 0 : in.length, invalid);
+
+		return invalid;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse each date within the range of the indexes with the compiled format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The dates
+	 * @param out [o] The packed dates in yyyyMMdd form
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CompiledDateFormat#parse(CharSequence)
+	 */
+	public static void parse(CompiledDateFormat compiledDateFormat, CharSequence[] in, int[] out, int from, int to, BitSet invalid) {
+
+		if (compiledDateFormat == null || in == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkRange(in.length, out == null ? -1 : out.length, from, to, invalid);
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final int firstWord = from >>> 6;
+		final long[] invalidWords = new long[wordCount(to) - firstWord];
+		parse(compiledDateFormat, in, out, from, to, invalidWords, firstWord);
+
+		event.end("parse", compiledDateFormat.getDateFormatInfo(), to - from, invalidWords, false);
+
+		setAll(invalid, invalidWords, firstWord);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The loop of {@link #parse(CompiledDateFormat, CharSequence[], int[], int, int, BitSet)}.<br>
+	 * The invalid indexes are set to the words of the bit set, so the ranges aligned to 64 indexes can be processed in parallel without locking.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The dates
+	 * @param out [o] The packed dates in yyyyMMdd form
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalidWords [o] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	static void parse(CompiledDateFormat compiledDateFormat, CharSequence[] in, int[] out, int from, int to, long[] invalidWords, int firstWord) {
+
+		for (int i = from; i < to; i++) {
+
+			final int packedDate = compiledDateFormat.parse(in[i]);
+
+			out[i] = packedDate;
+
+			if (packedDate == PackedDate.INVALID) {
+				invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+			}
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format each packed date in yyyyMMdd form with the compiled format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The formatted dates
+	 * @return Returns the indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static BitSet format(CompiledDateFormat compiledDateFormat, int[] in, String[] out) {
+
+		final BitSet invalid = new BitSet();
+		format(compiledDateFormat, in, out, 0, lengthOf(in), invalid);
+
+		return invalid;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format each packed date within the range of the indexes with the compiled format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The formatted dates
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CompiledDateFormat#format(int)
+	 */
+	public static void format(CompiledDateFormat compiledDateFormat, int[] in, String[] out, int from, int to, BitSet invalid) {
+
+		if (compiledDateFormat == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkRange(in, out == null ? -1 : out.length, from, to, invalid);
+
+		final DateBatchEvent event = new DateBatchEvent();
+		event.begin();
+
+		final int firstWord = from >>> 6;
+		final long[] invalidWords = new long[wordCount(to) - firstWord];
+		format(compiledDateFormat, in, out, from, to, invalidWords, firstWord);
+
+		event.end("format", compiledDateFormat.getDateFormatInfo(), to - from, invalidWords, false);
+
+		setAll(invalid, invalidWords, firstWord);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The loop of {@link #format(CompiledDateFormat, int[], String[], int, int, BitSet)}.<br>
+	 * The invalid indexes are set to the words of the bit set, so the ranges aligned to 64 indexes can be processed in parallel without locking.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled format of the dates
+	 * @param in [i] The packed dates in yyyyMMdd form
+	 * @param out [o] The formatted dates
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalidWords [o] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	static void format(CompiledDateFormat compiledDateFormat, int[] in, String[] out, int from, int to, long[] invalidWords, int firstWord) {
+
+		for (int i = from; i < to; i++) {
+
+			final int packedDate = in[i];
+
+			if (PackedDate.isValid(packedDate)) {
+				out[i] = compiledDateFormat.format(packedDate);
+			} else {
+				out[i] = null;
+				invalidWords[(i >>> 6) - firstWord] |= 1L << i;
+			}
+		}
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the words of the bit set to hold the indexes before the argument.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param to [i] The last index, exclusive
+	 * @return Returns the number of the words
+	 */
+	static int wordCount(int to) {
+
+		return (to + 63) >>> 6;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Set the indexes of the words to the bit set.<br>
+	 * Only the set bits are visited, so the cost depends on the number of the words and the invalid indexes, not on the first word.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param invalid [o] The indexes of the invalid dates
+	 * @param invalidWords [i] The words of the bit set of the invalid indexes, which start from the first word
+	 * @param firstWord [i] The index of the word of the bit set stored at the head of the words
+	 */
+	private static void setAll(BitSet invalid, long[] invalidWords, int firstWord) {
+
+		for (int i = 0; i < invalidWords.length; i++) {
+			for (long word = invalidWords[i]; word != 0L; word &= word - 1) {
+				invalid.set((firstWord + i) << 6 | Long.numberOfTrailingZeros(word));
+			}
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the length of the array, or 0 if the array is null.<br>
+	 * The null array is rejected by {@link #checkRange(int, int, int, int, BitSet)} afterwards.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The array
+	 * @return Returns the length of the array
+	 */
+	private static int lengthOf(int[] in) {
+
+		return in == null ? 0 : in.length;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate the definition of the week.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	static void checkWeekDefinition(WeekDefinition weekDefinition) {
+
+		if (weekDefinition == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate the input array, the length of the output array and the range of the indexes.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param in [i] The input array
+	 * @param outLength [i] The length of the output array, or -1 if it is null
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [i] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	private static void checkRange(int[] in, int outLength, int from, int to, BitSet invalid) {
+
+		if (in == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkRange(in.length, outLength, from, to, invalid);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate the length of the arrays and the range of the indexes.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param inLength [i] The length of the input array
+	 * @param outLength [i] The length of the output array, or -1 if it is null
+	 * @param from [i] The first index, inclusive
+	 * @param to [i] The last index, exclusive
+	 * @param invalid [i] The indexes of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	private static void checkRange(int inLength, int outLength, int from, int to, BitSet invalid) {
+
+		if (outLength < 0 || invalid == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (outLength < inLength) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid length.", outLength));
+		}
+
+		if (from < 0 || from > to || to > inLength) {
+			throw new IllegalArgumentException(String.format("Parameter [%d, %d] is a invalid range.", from, to));
+		}
+	}
+}
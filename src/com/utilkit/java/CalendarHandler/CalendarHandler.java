@@ -26,14 +26,14 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.GregorianCalendar;
+import java.util.Locale;
 
+import com.utilkit.java.CalendarHandler.CalendarHandlerMetrics.Operation;
 import com.utilkit.java.CalendarHandler.CalendarInfoEnum.MonthInfo;
 import com.utilkit.java.CalendarHandler.CalendarInfoEnum.WeekInfo;
+import com.utilkit.java.CalendarHandler.DateRange.Step;
 import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
-import com.utilkit.java.CalendarHandler.FormatInfoEnum.FormatInfo;
-import com.utilkit.java.CalendarHandler.FormatInfoEnum.SymbolInfo;
 import com.utilkit.java.common.StringChecker;
 
 /**
@@ -50,6 +50,23 @@ import com.utilkit.java.common.StringChecker;
  * {@link com.utilkit.java.CalendarHandler.IFormatInfoEnum}<br>
  * {@link com.utilkit.java.CalendarHandler.FormatInfoEnum}<br>
  * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The instance holds the format and the date set by {@link #setDate(String)}, so create an instance for each task instead of sharing it.<br>
+ * The instance is small and shares only the immutable tables and the lock-free caches with other instances,
+ * so creating it for each request on a virtual thread costs neither locking nor the memory per thread.<br>
+ * This class uses neither synchronized, ThreadLocal nor any blocking operation,
+ * so a virtual thread is not pinned to its carrier thread by this class.<br>
+ * The stateless operations are also provided by {@link CompiledDateFormat}, {@link DateFormatDetector}, {@link PackedDate} and {@link CivilCalendar}.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * The date is always read and written in {@link GregorianCalendar} with the ASCII digits, regardless of the default locale.<br>
+ * The dates are accepted and rejected in the same way as {@link SimpleDateFormat} of {@link Locale#ROOT} with {@link GregorianCalendar},
+ * which follows the Julian calendar before the Gregorian cutover of 1582-10-15.<br>
+ * The calendar of the default locale, such as the Buddhist calendar of th_TH or the Japanese imperial calendar of ja_JP_JP, is not used,
+ * so the string formatted by this class is always read back as the same date.<br>
+ * </DD>
  * </DL>
  *
  * @author Kato Shinya
@@ -67,27 +84,70 @@ public class CalendarHandler {
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * This class was created to provide functions to efficiently manipulate the calendar from the date.<br>
-	 * Since the instantiation of the calendar class is heavy, keep the instance as a class constant.<br>
+	 * The first year after the Gregorian cutover.<br>
+	 * The dates before this year follow the Julian calendar in {@link Calendar}, so they are calculated with {@link Calendar}.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int MIN_GREGORIAN_YEAR = 1583;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The compiled date format to be used in this instance.<br>
+	 * If no format is passed as an argument to the factory, it is initialized in yyyyMMdd format as a default.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The compiled date format is immutable and shared, so the date is parsed and formatted without creating {@link SimpleDateFormat}.<br>
+	 * {@link Calendar} and {@link SimpleDateFormat} are not thread-safe, so they are created in each method only when they are needed.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @see CompiledDateFormat
+	 */
+	private CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.DEFALUT);
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The date format information requested for this instance, which the operations are recorded for in {@link CalendarHandlerMetrics}.<br>
 	 * </DD>
 	 * <DT>Note:</DT>
 	 * <DD>
-	 * Be sure to use {@code cal.clear()} first when using the calendar class in the method of this class, or it may not be able to derive the correct value.<br>
+	 * Some formats such as {@link DateFormatInfo#CANADA} and {@link DateFormatInfo#ENGLAND} have the same pattern.<br>
+	 * If the format is requested with the pattern, it is the first of them, so pass {@link DateFormatInfo} to tell them apart.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @see #applyPattern(DateFormatInfo)
+	 */
+	private DateFormatInfo dateFormatInfo = DateFormatInfo.DEFALUT;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Class field to hold whether to allow lenient analysis of dates.<br>
 	 * </DD>
 	 * </DL>
 	 */
-	private static final Calendar cal = Calendar.getInstance();
+	private boolean isLenient = false;
 
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * The date format class to be used in this class.<br>
-	 * If no format is passed as an argument to the constructor, it is initialized in yyyyMMdd format as a default.<br>
+	 * Class field to hold the definition of the week used for the bounds and the number of the week.<br>
+	 * It is initialized with the week starting on Sunday.<br>
 	 * </DD>
 	 * </DL>
+	 *
+	 * @see #setWeekDefinition(WeekDefinition)
 	 */
-	private static final SimpleDateFormat sdf = new SimpleDateFormat(DateFormatInfo.DEFALUT.getFormat());
+	private WeekDefinition weekDefinition = WeekDefinition.SUNDAY_START;
 
 	/**
 	 * <DL>
@@ -103,18 +163,35 @@ public class CalendarHandler {
 	 */
 	private String date = "";
 
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Class field to hold the date decoded from {@link #date}.<br>
+	 * It is created when the date is set, so the argumentless methods of the class do not parse the date again.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * It is cleared when the format, the lenient setting or the week definition is changed, and decoded again with the new setting when it is needed.<br>
+	 * It is null if the date is not set or the date can not be decoded.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @see DecodedDate
+	 */
+	private DecodedDate decodedDate = null;
+
 	// ================= constructor =====================================
 
 	/**
 	 * This constructor is used for class initialization.
-	 * The instance generated in this class is guaranteed to be singleton.
 	 *
 	 * Instead of using this constructor to initialize the class,
-	 * you can get a singleton instance by using the static factory methods.
+	 * you can get a new instance by using the static factory methods.
 	 *
 	 * @see #getInstance()
 	 * @see #getInstance(String)
-	 * @see InstanceHolder
+	 * @see #getInstance(DateFormatInfo)
 	 */
 	private CalendarHandler() {
 
@@ -131,11 +208,16 @@ public class CalendarHandler {
 	 * Set the strict analysis of the date to true when the factory is run.<br>
 	 * The strict analysis setting can be changed after instance creation with {@link #setLenient}.<br>
 	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * A new instance is returned every time the factory is run.<br>
+	 * Instances do not share any mutable state, so each thread can use its own instance without locking.<br>
+	 * </DD>
 	 * </DL>
 	 */
 	public static CalendarHandler getInstance() {
 
-		return InstanceHolder.INSTANCE;
+		return new CalendarHandler();
 	}
 
 	/**
@@ -146,6 +228,11 @@ public class CalendarHandler {
 	 * Set the strict analysis of the date to true when the factory is run.<br>
 	 * The strict analysis setting can be changed after instance creation with {@link #setLenient}.<br>
 	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * A new instance is returned every time the factory is run.<br>
+	 * Instances do not share any mutable state, so each thread can use its own instance without locking.<br>
+	 * </DD>
 	 * <DT>Caution:</DT>
 	 * <DD>
 	 * It is advisable to use {@link DateFormatInfo}, as only the specified format is acceptable.<br>
@@ -160,31 +247,38 @@ public class CalendarHandler {
 	 */
 	public static CalendarHandler getInstance(String dateFormat) {
 
-		InstanceHolder.INSTANCE.applyPattern(dateFormat);
+		final CalendarHandler calendarHandler = new CalendarHandler();
+		calendarHandler.applyPattern(dateFormat);
 
-		return InstanceHolder.INSTANCE;
+		return calendarHandler;
 	}
 
 	/**
-	 * This nested class was defined to create the singleton instance and to hold it.
-	 *
-	 * Singleton instance is not created when the CalendarHandler class is loaded.
-	 * When using {@link CalendarHandler#getInstance()} for the first time,
-	 * the {@link InstanceHolder} class is loaded and the singleton instance is created.
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This static factory is used to initialise the class with date format information.<br>
+	 * Set the strict analysis of the date to true when the factory is run.<br>
+	 * The strict analysis setting can be changed after instance creation with {@link #setLenient}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * A new instance is returned every time the factory is run.<br>
+	 * Unlike {@link #getInstance(String)}, the operations are recorded for the passed format even if another format has the same pattern.<br>
+	 * </DD>
+	 * </DL>
 	 *
-	 * It does not use synchronized, but it supports multithread processing.
-	 * The reason for not using synchronized is to prevent performance degradation
-	 * due to locking by specifying synchronized.
+	 * @param dateFormatInfo [i] The date format information
+	 * @throws IllegalArgumentException throws when the argument is not valid
 	 *
-	 * @see CalendarHandler
-	 * @see #getInstance()
-	 * @see #getInstance(String)
+	 * @see #applyPattern(DateFormatInfo)
 	 */
-	private static class InstanceHolder {
+	public static CalendarHandler getInstance(DateFormatInfo dateFormatInfo) {
 
-		/** The field to hold the singleton instance.
-		 */
-		private static final CalendarHandler INSTANCE = CalendarHandler.getInstance();
+		final CalendarHandler calendarHandler = new CalendarHandler();
+		calendarHandler.applyPattern(dateFormatInfo);
+
+		return calendarHandler;
 	}
 
 	// ================= public methods =====================================
@@ -211,7 +305,15 @@ public class CalendarHandler {
 	 */
 	public String getSystemDate() {
 
-		return sdf.format(new Date());
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final String systemDate = this.formatCalendar(createCalendar());
+
+		this.record(Operation.GET_SYSTEM_DATE, systemDate.isEmpty(), startNanos, event);
+
+		return systemDate;
 	}
 
 	/**
@@ -226,7 +328,8 @@ public class CalendarHandler {
 	 */
 	public void setLenient(boolean isLenient) {
 
-		sdf.setLenient(isLenient);
+		this.isLenient = isLenient;
+		this.decodedDate = null;
 	}
 
 	/**
@@ -258,13 +361,16 @@ public class CalendarHandler {
 	 */
 	public WeekInfo getDayOfWeekInfoByDate() {
 
-		String date = this.getDate();
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!StringChecker.isEffectiveString(date)) {
-			return null;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final WeekInfo weekInfo = decodedDate == null ? null : decodedDate.getDayOfWeekInfo();
 
-		return this.getDayOfWeekInfoByDate(date);
+		this.record(Operation.GET_DAY_OF_WEEK_INFO_BY_DATE, weekInfo == null, startNanos, event);
+
+		return weekInfo;
 	}
 
 	/**
@@ -292,35 +398,60 @@ public class CalendarHandler {
 	 * @param date [i] The date to use for getting week information.
 	 * @return Returns week information linked to the argument. See detail {@link WeekInfo}.
 	 *
-	 * @see #spritDate(String)
-	 * @see com.utilkit.java.CalendarHandler.ICalendarInfoEnum#getByCode(Class, int)
+	 * @see #decode(String)
+	 * @see EnumLookupTable#getByCode(int)
 	 * @see WeekInfo
-	 * @see FormatInfo#yyyy
-	 * @see FormatInfo#MM
-	 * @see FormatInfo#dd
 	 */
 	public WeekInfo getDayOfWeekInfoByDate(String date) {
 
-		final Map<String, String> dateMap = this.spritDate(date);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (dateMap.isEmpty()) {
-			return null;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final WeekInfo weekInfo = packedDate == PackedDate.INVALID ? null : this.dayOfWeekInfoOf(packedDate);
 
-		final int year = Integer.parseInt(dateMap.get(FormatInfo.yyyy.getFormat()));
-		final int month = Integer.parseInt(dateMap.get(FormatInfo.MM.getFormat()));
-		final int day = Integer.parseInt(dateMap.get(FormatInfo.dd.getFormat()));
+		this.record(Operation.GET_DAY_OF_WEEK_INFO_BY_DATE, weekInfo == null, startNanos, event);
 
-		cal.clear();
-		cal.set(year, month-1, day);
+		return weekInfo;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return enum class of week information linked to the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, null will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>WeekInfo weekInfo = calendarHandler.getDayOfWeekInfoByDate(20190216);</strong><br>
+	 * <strong>weekInfo.getEnglishName(); then "Saturday"</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns week information linked to the argument. See detail {@link WeekInfo}.
+	 *
+	 * @see PackedDate
+	 * @see CalendarTable#dayOfWeek(int, int, int)
+	 * @see WeekInfo
+	 */
+	public WeekInfo getDayOfWeekInfoByDate(int packedDate) {
 
-		final int code = cal.get(Calendar.DAY_OF_WEEK);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!ICalendarInfoEnum.hasCode(WeekInfo.class, code)) {
-			return null;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final WeekInfo weekInfo = PackedDate.isValid(packedDate) ? gregorianDayOfWeekInfoOf(packedDate) : null;
+
+		this.record(Operation.GET_DAY_OF_WEEK_INFO_BY_DATE, weekInfo == null, startNanos, event);
 
-		return ICalendarInfoEnum.getByCode(WeekInfo.class, code);
+		return weekInfo;
 	}
 
 	/**
@@ -352,13 +483,16 @@ public class CalendarHandler {
 	 */
 	public MonthInfo getMonthInfoByDate() {
 
-		String date = this.getDate();
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!StringChecker.isEffectiveString(date)) {
-			return null;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final MonthInfo monthInfo = decodedDate == null ? null : decodedDate.getMonthInfo();
+
+		this.record(Operation.GET_MONTH_INFO_BY_DATE, monthInfo == null, startNanos, event);
 
-		return this.getMonthInfoByDate(date);
+		return monthInfo;
 	}
 
 	/**
@@ -386,35 +520,59 @@ public class CalendarHandler {
 	 * @param date [i] The date to use for getting month information.
 	 * @return Returns month information linked to the argument. See detail {@link MonthInfo}.
 	 *
-	 * @see #spritDate(String)
-	 * @see com.utilkit.java.CalendarHandler.ICalendarInfoEnum#getByCode(Class, int)
+	 * @see #decode(String)
+	 * @see EnumLookupTable#getByCode(int)
 	 * @see MonthInfo
-	 * @see FormatInfo#yyyy
-	 * @see FormatInfo#MM
-	 * @see FormatInfo#dd
 	 */
 	public MonthInfo getMonthInfoByDate(String date) {
 
-		final Map<String, String> dateMap = this.spritDate(date);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (dateMap.isEmpty()) {
-			return null;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final MonthInfo monthInfo = packedDate == PackedDate.INVALID ? null : monthInfoOf(packedDate);
 
-		final int year = Integer.parseInt(dateMap.get(FormatInfo.yyyy.getFormat()));
-		final int month = Integer.parseInt(dateMap.get(FormatInfo.MM.getFormat()));
-		final int day = Integer.parseInt(dateMap.get(FormatInfo.dd.getFormat()));
+		this.record(Operation.GET_MONTH_INFO_BY_DATE, monthInfo == null, startNanos, event);
 
-		cal.clear();
-		cal.set(year, month-1, day);
+		return monthInfo;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return enum class of month information linked to the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, null will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>MonthInfo monthInfo = calendarHandler.getMonthInfoByDate(20190216);</strong><br>
+	 * <strong>monthInfo.getEnglishName(); then "February"</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns month information linked to the argument. See detail {@link MonthInfo}.
+	 *
+	 * @see PackedDate
+	 * @see MonthInfo
+	 */
+	public MonthInfo getMonthInfoByDate(int packedDate) {
 
-		final int code = cal.get(Calendar.MONTH);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!ICalendarInfoEnum.hasCode(MonthInfo.class, code)) {
-			return null;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final MonthInfo monthInfo = PackedDate.isValid(packedDate) ? monthInfoOf(packedDate) : null;
 
-		return ICalendarInfoEnum.getByCode(MonthInfo.class, code);
+		this.record(Operation.GET_MONTH_INFO_BY_DATE, monthInfo == null, startNanos, event);
+
+		return monthInfo;
 	}
 
 	/**
@@ -448,13 +606,16 @@ public class CalendarHandler {
 	 */
 	public String adjustDate(int amountYear, int amountMonth, int amountDay) {
 
-		String date = this.getDate();
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!StringChecker.isEffectiveString(date)) {
-			return "";
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final String adjustedDate = decodedDate == null ? "" : this.adjustDateOf(decodedDate.packedDate, amountYear, amountMonth, amountDay);
 
-		return this.adjustDate(date, amountYear, amountMonth, amountDay);
+		this.record(Operation.ADJUST_DATE, adjustedDate.isEmpty(), startNanos, event);
+
+		return adjustedDate;
 	}
 
 	/**
@@ -485,31 +646,61 @@ public class CalendarHandler {
 	 * @param amountDay [i] Increase / Decrease in day
 	 * @return Returns an adjusted date
 	 *
-	 * @see #spritDate(String)
-	 * @see FormatInfo#yyyy
-	 * @see FormatInfo#MM
-	 * @see FormatInfo#dd
+	 * @see #decode(String)
+	 * @see CivilCalendar
 	 */
 	public String adjustDate(String date, int amountYear, int amountMonth, int amountDay) {
 
-		final Map<String, String> dateMap = this.spritDate(date);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (dateMap.isEmpty()) {
-			return "";
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final String adjustedDate = packedDate == PackedDate.INVALID ? "" : this.adjustDateOf(packedDate, amountYear, amountMonth, amountDay);
 
-		final int year = Integer.parseInt(dateMap.get(FormatInfo.yyyy.getFormat()));
-		final int month = Integer.parseInt(dateMap.get(FormatInfo.MM.getFormat()));
-		final int day = Integer.parseInt(dateMap.get(FormatInfo.dd.getFormat()));
+		this.record(Operation.ADJUST_DATE, adjustedDate.isEmpty(), startNanos, event);
 
-		cal.clear();
-		cal.set(year, month-1, day);
+		return adjustedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Increase or decrease the packed date according to the argument.<br>
+	 * As with {@link #adjustDate(String, int, int, int)}, the date is adjusted in the order of year, month and day.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date or the adjusted date is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.adjustDate(20190216, 1, 2, 0);</strong><br>
+	 * <strong>then 20200416</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @param amountYear [i] Increase / Decrease in Year
+	 * @param amountMonth [i] Increase / Decrease in Month
+	 * @param amountDay [i] Increase / Decrease in day
+	 * @return Returns an adjusted date in yyyyMMdd form
+	 *
+	 * @see PackedDate#adjust(int, int, int, int)
+	 */
+	public int adjustDate(int packedDate, int amountYear, int amountMonth, int amountDay) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		cal.add(Calendar.YEAR, amountYear);
-		cal.add(Calendar.MONTH, amountMonth);
-		cal.add(Calendar.DAY_OF_MONTH, amountDay);
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int adjustedDate = PackedDate.adjust(packedDate, amountYear, amountMonth, amountDay);
 
-		return sdf.format(cal.getTime());
+		this.record(Operation.ADJUST_DATE, adjustedDate == PackedDate.INVALID, startNanos, event);
+
+		return adjustedDate;
 	}
 
 	/**
@@ -540,13 +731,16 @@ public class CalendarHandler {
 	 */
 	public int getFirstDayOfMonth() {
 
-		String date = this.getDate();
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!StringChecker.isEffectiveString(date)) {
-			return -1;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final int firstDayOfMonth = decodedDate == null ? -1 : decodedDate.getFirstDayOfMonth();
+
+		this.record(Operation.GET_FIRST_DAY_OF_MONTH, firstDayOfMonth == -1, startNanos, event);
 
-		return this.getFirstDayOfMonth(date);
+		return firstDayOfMonth;
 	}
 
 	/**
@@ -574,27 +768,56 @@ public class CalendarHandler {
 	 * @param date [i] Value of the date
 	 * @return Returns the first day of the month
 	 *
-	 * @see #spritDate(String)
-	 * @see FormatInfo#yyyy
-	 * @see FormatInfo#MM
-	 * @see FormatInfo#dd
+	 * @see #decode(String)
 	 */
 	public int getFirstDayOfMonth(String date) {
 
-		final Map<String, String> dateMap = this.spritDate(date);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (dateMap.isEmpty()) {
-			return -1;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final int firstDayOfMonth = packedDate == PackedDate.INVALID ? -1 : this.firstDayOfMonthOf(packedDate);
 
-		final int year = Integer.parseInt(dateMap.get(FormatInfo.yyyy.getFormat()));
-		final int month = Integer.parseInt(dateMap.get(FormatInfo.MM.getFormat()));
-		final int day = Integer.parseInt(dateMap.get(FormatInfo.dd.getFormat()));
+		this.record(Operation.GET_FIRST_DAY_OF_MONTH, firstDayOfMonth == -1, startNanos, event);
 
-		cal.clear();
-		cal.set(year, month-1, day);
+		return firstDayOfMonth;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the first day of the month of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, -1 will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.getFirstDayOfMonth(20190216);</strong><br>
+	 * <strong>then 1</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the first day of the month
+	 *
+	 * @see PackedDate
+	 */
+	public int getFirstDayOfMonth(int packedDate) {
 
-		return cal.getActualMinimum(Calendar.DAY_OF_MONTH);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int firstDayOfMonth = PackedDate.isValid(packedDate) ? 1 : -1;
+
+		this.record(Operation.GET_FIRST_DAY_OF_MONTH, firstDayOfMonth == -1, startNanos, event);
+
+		return firstDayOfMonth;
 	}
 
 	/**
@@ -625,13 +848,16 @@ public class CalendarHandler {
 	 */
 	public int getLastDayOfMonth() {
 
-		String date = this.getDate();
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!StringChecker.isEffectiveString(date)) {
-			return -1;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final int lastDayOfMonth = decodedDate == null ? -1 : decodedDate.getLastDayOfMonth();
+
+		this.record(Operation.GET_LAST_DAY_OF_MONTH, lastDayOfMonth == -1, startNanos, event);
 
-		return this.getLastDayOfMonth(date);
+		return lastDayOfMonth;
 	}
 
 	/**
@@ -659,27 +885,57 @@ public class CalendarHandler {
 	 * @param date [i] Value of the date
 	 * @return Returns the last day of the month
 	 *
-	 * @see #spritDate(String)
-	 * @see FormatInfo#yyyy
-	 * @see FormatInfo#MM
-	 * @see FormatInfo#dd
+	 * @see #decode(String)
 	 */
 	public int getLastDayOfMonth(String date) {
 
-		final Map<String, String> dateMap = this.spritDate(date);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (dateMap.isEmpty()) {
-			return -1;
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final int lastDayOfMonth = packedDate == PackedDate.INVALID ? -1 : this.lastDayOfMonthOf(packedDate);
 
-		final int year = Integer.parseInt(dateMap.get(FormatInfo.yyyy.getFormat()));
-		final int month = Integer.parseInt(dateMap.get(FormatInfo.MM.getFormat()));
-		final int day = Integer.parseInt(dateMap.get(FormatInfo.dd.getFormat()));
+		this.record(Operation.GET_LAST_DAY_OF_MONTH, lastDayOfMonth == -1, startNanos, event);
 
-		cal.clear();
-		cal.set(year, month-1, day);
+		return lastDayOfMonth;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the last day of the month of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, -1 will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.getLastDayOfMonth(20190216);</strong><br>
+	 * <strong>then 28</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the last day of the month
+	 *
+	 * @see PackedDate
+	 * @see CalendarTable#lengthOfMonth(int, int)
+	 */
+	public int getLastDayOfMonth(int packedDate) {
 
-		return cal.getActualMaximum(Calendar.DAY_OF_MONTH);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int lastDayOfMonth = PackedDate.isValid(packedDate) ? gregorianLengthOfMonth(packedDate) : -1;
+
+		this.record(Operation.GET_LAST_DAY_OF_MONTH, lastDayOfMonth == -1, startNanos, event);
+
+		return lastDayOfMonth;
 	}
 
 	/**
@@ -687,6 +943,7 @@ public class CalendarHandler {
 	 * <DT>Description:</DT>
 	 * <DD>
 	 * Return the beginning day of the week.<br>
+	 * The week follows the definition set by {@link #setWeekDefinition(WeekDefinition)}.<br>
 	 * </DD>
 	 * <DT>Note:</DT>
 	 * <DD>
@@ -696,11 +953,11 @@ public class CalendarHandler {
 	 * <DD>
 	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
 	 * <strong>calendarHandler.getBeginningDateOfWeek("20190216");</strong><br>
-	 * <strong>then TODO</strong><br>
+	 * <strong>then "20190210"</strong><br>
 	 * <br>
 	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FORMAT_COMMA.getFormat());</strong><br>
 	 * <strong>calendarHandler.getBeginningDateOfWeek("2019.01.17");</strong><br>
-	 * <strong>then TODO</strong><br>
+	 * <strong>then "2019.01.13"</strong><br>
 	 * </DD>
 	 * </DL>
 	 *
@@ -710,13 +967,16 @@ public class CalendarHandler {
 	 */
 	public String getBeginningDateOfWeek() {
 
-		String date = this.getDate();
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!StringChecker.isEffectiveString(date)) {
-			return "";
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final String beginningDateOfWeek = decodedDate == null ? "" : decodedDate.getBeginningDateOfWeek();
 
-		return this.getBeginningDateOfWeek(date);
+		this.record(Operation.GET_BEGINNING_DATE_OF_WEEK, beginningDateOfWeek.isEmpty(), startNanos, event);
+
+		return beginningDateOfWeek;
 	}
 
 	/**
@@ -724,6 +984,7 @@ public class CalendarHandler {
 	 * <DT>Description:</DT>
 	 * <DD>
 	 * Return the beginning day of the week.<br>
+	 * The week follows the definition set by {@link #setWeekDefinition(WeekDefinition)}.<br>
 	 * </DD>
 	 * <DT>Note:</DT>
 	 * <DD>
@@ -733,43 +994,69 @@ public class CalendarHandler {
 	 * <DD>
 	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
 	 * <strong>calendarHandler.getBeginningDateOfWeek("20190216");</strong><br>
-	 * <strong>then TODO</strong><br>
+	 * <strong>then "20190210"</strong><br>
 	 * <br>
 	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FORMAT_COMMA.getFormat());</strong><br>
 	 * <strong>calendarHandler.getBeginningDateOfWeek("2019.01.17");</strong><br>
-	 * <strong>then TODO</strong><br>
+	 * <strong>then "2019.01.13"</strong><br>
 	 * </DD>
 	 * </DL>
 	 *
 	 * @param date [i] Value of the date
 	 * @return Returns the beginning day of the week
 	 *
-	 * @see #spritDate(String)
-	 * @see FormatInfo#yyyy
-	 * @see FormatInfo#MM
-	 * @see FormatInfo#dd
+	 * @see #decode(String)
+	 * @see CivilCalendar
 	 */
 	public String getBeginningDateOfWeek(String date) {
 
-		final Map<String, String> dateMap = this.spritDate(date);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (dateMap.isEmpty()) {
-			return "";
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final String beginningDateOfWeek = packedDate == PackedDate.INVALID ? "" : this.beginningDateOfWeekOf(packedDate);
 
-		final int year = Integer.parseInt(dateMap.get(FormatInfo.yyyy.getFormat()));
-		final int month = Integer.parseInt(dateMap.get(FormatInfo.MM.getFormat()));
-		final int day = Integer.parseInt(dateMap.get(FormatInfo.dd.getFormat()));
+		this.record(Operation.GET_BEGINNING_DATE_OF_WEEK, beginningDateOfWeek.isEmpty(), startNanos, event);
 
-		cal.clear();
-		cal.set(year, month-1, day);
+		return beginningDateOfWeek;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the beginning day of the week of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date or the result is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.getBeginningDateOfWeek(20190216);</strong><br>
+	 * <strong>then 20190210</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the beginning day of the week in yyyyMMdd form
+	 *
+	 * @see PackedDate
+	 * @see WeekDefinition#getBeginningDateOfWeek(int)
+	 */
+	public int getBeginningDateOfWeek(int packedDate) {
 
-		final int dayOfweek = cal.get(Calendar.DAY_OF_WEEK);
-		cal.add(Calendar.DAY_OF_MONTH, -dayOfweek);
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		final String weekStart = sdf.format(cal.getTime());
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int beginningDateOfWeek = this.weekDefinition.getBeginningDateOfWeek(packedDate);
 
-		return weekStart;
+		this.record(Operation.GET_BEGINNING_DATE_OF_WEEK, beginningDateOfWeek == PackedDate.INVALID, startNanos, event);
+
+		return beginningDateOfWeek;
 	}
 
 	/**
@@ -777,6 +1064,7 @@ public class CalendarHandler {
 	 * <DT>Description:</DT>
 	 * <DD>
 	 * Return the end day of the week.<br>
+	 * The week follows the definition set by {@link #setWeekDefinition(WeekDefinition)}.<br>
 	 * </DD>
 	 * <DT>Note:</DT>
 	 * <DD>
@@ -785,12 +1073,12 @@ public class CalendarHandler {
 	 * <DT>Example:</DT>
 	 * <DD>
 	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
-	 * <strong>calendarHandler.getEndDateOfWeekFrom("20190216");</strong><br>
-	 * <strong>then TODO</strong><br>
+	 * <strong>calendarHandler.getEndDateOfWeek("20190216");</strong><br>
+	 * <strong>then "20190216"</strong><br>
 	 * <br>
 	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FORMAT_COMMA.getFormat());</strong><br>
-	 * <strong>calendarHandler.getEndDateOfWeekFrom("2019.01.17");</strong><br>
-	 * <strong>then TODO</strong><br>
+	 * <strong>calendarHandler.getEndDateOfWeek("2019.01.17");</strong><br>
+	 * <strong>then "2019.01.19"</strong><br>
 	 * </DD>
 	 * </DL>
 	 *
@@ -800,13 +1088,16 @@ public class CalendarHandler {
 	 */
 	public String getEndDateOfWeek() {
 
-		String date = this.getDate();
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		if (!StringChecker.isEffectiveString(date)) {
-			return "";
-		}
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final String endDateOfWeek = decodedDate == null ? "" : decodedDate.getEndDateOfWeek();
+
+		this.record(Operation.GET_END_DATE_OF_WEEK, endDateOfWeek.isEmpty(), startNanos, event);
 
-		return this.getEndDateOfWeek(date);
+		return endDateOfWeek;
 	}
 
 	/**
@@ -814,6 +1105,7 @@ public class CalendarHandler {
 	 * <DT>Description:</DT>
 	 * <DD>
 	 * Return the end day of the week.<br>
+	 * The week follows the definition set by {@link #setWeekDefinition(WeekDefinition)}.<br>
 	 * </DD>
 	 * <DT>Note:</DT>
 	 * <DD>
@@ -822,45 +1114,315 @@ public class CalendarHandler {
 	 * <DT>Example:</DT>
 	 * <DD>
 	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
-	 * <strong>calendarHandler.getEndDateOfWeekFrom("20190216");</strong><br>
-	 * <strong>then TODO</strong><br>
+	 * <strong>calendarHandler.getEndDateOfWeek("20190216");</strong><br>
+	 * <strong>then "20190216"</strong><br>
 	 * <br>
 	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FORMAT_COMMA.getFormat());</strong><br>
-	 * <strong>calendarHandler.getEndDateOfWeekFrom("2019.01.17");</strong><br>
-	 * <strong>then TODO</strong><br>
+	 * <strong>calendarHandler.getEndDateOfWeek("2019.01.17");</strong><br>
+	 * <strong>then "2019.01.19"</strong><br>
 	 * </DD>
 	 * </DL>
 	 *
 	 * @param date [i] Value of the date
 	 * @return Returns the end day of the week
 	 *
-	 * @see #spritDate(String)
-	 * @see FormatInfo#yyyy
-	 * @see FormatInfo#MM
-	 * @see FormatInfo#dd
+	 * @see #decode(String)
+	 * @see CivilCalendar
 	 */
 	public String getEndDateOfWeek(String date) {
 
-		final Map<String, String> dateMap = this.spritDate(date);
-
-		if (dateMap.isEmpty()) {
-			return "";
-		}
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
 
-		final int year = Integer.parseInt(dateMap.get(FormatInfo.yyyy.getFormat()));
-		final int month = Integer.parseInt(dateMap.get(FormatInfo.MM.getFormat()));
-		final int day = Integer.parseInt(dateMap.get(FormatInfo.dd.getFormat()));
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final String endDateOfWeek = packedDate == PackedDate.INVALID ? "" : this.endDateOfWeekOf(packedDate);
 
-		cal.clear();
-		cal.set(year, month-1, day);
+		this.record(Operation.GET_END_DATE_OF_WEEK, endDateOfWeek.isEmpty(), startNanos, event);
 
-		final int dayOfweek = cal.get(Calendar.DAY_OF_WEEK);
-		cal.add(Calendar.DAY_OF_MONTH, -dayOfweek);
-		cal.add(Calendar.DAY_OF_MONTH, 6);
+		return endDateOfWeek;
+	}
 
-		final String weekEnd = sdf.format(cal.getTime());
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the end day of the week of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date or the result is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.getEndDateOfWeek(20190216);</strong><br>
+	 * <strong>then 20190216</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the end day of the week in yyyyMMdd form
+	 *
+	 * @see PackedDate
+	 * @see WeekDefinition#getEndDateOfWeek(int)
+	 */
+	public int getEndDateOfWeek(int packedDate) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int endDateOfWeek = this.weekDefinition.getEndDateOfWeek(packedDate);
+
+		this.record(Operation.GET_END_DATE_OF_WEEK, endDateOfWeek == PackedDate.INVALID, startNanos, event);
+
+		return endDateOfWeek;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week of the week-based year.<br>
+	 * The week follows the definition set by {@link #setWeekDefinition(WeekDefinition)}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date does not exist, -1 will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the week from 1 to 53, or -1
+	 *
+	 * @see #getWeekOfYear(String)
+	 */
+	public int getWeekOfYear() {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final int weekOfYear = decodedDate == null ? -1 : this.weekFieldOf(decodedDate.packedDate, Calendar.WEEK_OF_YEAR);
+
+		this.record(Operation.GET_WEEK_OF_YEAR, weekOfYear == -1, startNanos, event);
+
+		return weekOfYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week of the week-based year.<br>
+	 * The week follows the definition set by {@link #setWeekDefinition(WeekDefinition)}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date does not exist, -1 will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.setWeekDefinition(WeekDefinition.ISO);</strong><br>
+	 * <strong>calendarHandler.getWeekOfYear("20210103");</strong><br>
+	 * <strong>then 53</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of the date
+	 * @return Returns the week from 1 to 53, or -1
+	 *
+	 * @see #decode(String)
+	 * @see #getWeekBasedYear(String)
+	 */
+	public int getWeekOfYear(String date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final int weekOfYear = packedDate == PackedDate.INVALID ? -1 : this.weekFieldOf(packedDate, Calendar.WEEK_OF_YEAR);
+
+		this.record(Operation.GET_WEEK_OF_YEAR, weekOfYear == -1, startNanos, event);
+
+		return weekOfYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week of the week-based year of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, -1 will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the week from 1 to 53, or -1
+	 *
+	 * @see WeekDefinition#getWeekOfYear(int)
+	 */
+	public int getWeekOfYear(int packedDate) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int weekOfYear = this.weekDefinition.getWeekOfYear(packedDate);
+
+		this.record(Operation.GET_WEEK_OF_YEAR, weekOfYear == -1, startNanos, event);
+
+		return weekOfYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week-based year, which the week of the date belongs to.<br>
+	 * The week follows the definition set by {@link #setWeekDefinition(WeekDefinition)}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date does not exist, -1 will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the week-based year, or -1
+	 *
+	 * @see #getWeekBasedYear(String)
+	 */
+	public int getWeekBasedYear() {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DecodedDate decodedDate = this.getDecodedDate();
+		final int weekBasedYear = decodedDate == null ? -1 : this.weekFieldOf(decodedDate.packedDate, Calendar.YEAR);
+
+		this.record(Operation.GET_WEEK_BASED_YEAR, weekBasedYear == -1, startNanos, event);
+
+		return weekBasedYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week-based year, which the week of the date belongs to.<br>
+	 * The week follows the definition set by {@link #setWeekDefinition(WeekDefinition)}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date does not exist, -1 will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.setWeekDefinition(WeekDefinition.ISO);</strong><br>
+	 * <strong>calendarHandler.getWeekBasedYear("20181231");</strong><br>
+	 * <strong>then 2019</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of the date
+	 * @return Returns the week-based year, or -1
+	 *
+	 * @see #decode(String)
+	 * @see #getWeekOfYear(String)
+	 */
+	public int getWeekBasedYear(String date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+		final int weekBasedYear = packedDate == PackedDate.INVALID ? -1 : this.weekFieldOf(packedDate, Calendar.YEAR);
+
+		this.record(Operation.GET_WEEK_BASED_YEAR, weekBasedYear == -1, startNanos, event);
+
+		return weekBasedYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week-based year of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, -1 will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the week-based year, or -1
+	 *
+	 * @see WeekDefinition#getWeekBasedYear(int)
+	 */
+	public int getWeekBasedYear(int packedDate) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int weekBasedYear = this.weekDefinition.getWeekBasedYear(packedDate);
+
+		this.record(Operation.GET_WEEK_BASED_YEAR, weekBasedYear == -1, startNanos, event);
+
+		return weekBasedYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Set the definition of the week used for the bounds and the number of the week.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.setWeekDefinition(WeekDefinition.of(Locale.GERMANY));</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param weekDefinition [i] The definition of the week
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see WeekDefinition
+	 */
+	public void setWeekDefinition(WeekDefinition weekDefinition) {
+
+		if (weekDefinition == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
 
-		return weekEnd;
+		this.weekDefinition = weekDefinition;
+		this.decodedDate = null;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the definition of the week.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the definition of the week
+	 */
+	public WeekDefinition getWeekDefinition() {
+
+		return this.weekDefinition;
 	}
 
 	/**
@@ -882,23 +1444,918 @@ public class CalendarHandler {
 	 * </DL>
 	 *
 	 * @param date [i] Value of the date
-	 * @return Returns {@code true} if the date is valid, or {@code false}
-	 *
-	 * @see com.utilkit.java.common.StringChecker#isEffectiveString(String)
+	 * @return Returns {@code true} if the date is valid, or {@code false}
+	 *
+	 * @see #resolve(String, Operation)
+	 */
+	public boolean isEffectiveDate(String date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final boolean isEffective = this.resolve(date, Operation.PARSE) != PackedDate.INVALID;
+
+		this.record(Operation.IS_EFFECTIVE_DATE, !isEffective, startNanos, event);
+
+		return isEffective;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate the date and return the status with the reason and the position of the first character that failed.<br>
+	 * The date is valid if and only if {@link #isEffectiveDate(String)} returns {@code true}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * Neither the exception is thrown nor the object is created even if the date is not valid,
+	 * only the year of more than 8 digits is validated with {@link SimpleDateFormat}.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>ValidationStatus.toString(calendarHandler.validate("20190230"));</strong><br>
+	 * <strong>then "DAY at 6"</strong><br>
+	 * <br>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FORMAT_COMMA.getFormat());</strong><br>
+	 * <strong>ValidationStatus.toString(calendarHandler.validate("2019/01/17"));</strong><br>
+	 * <strong>then "SYMBOL at 4"</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of the date
+	 * @return Returns {@link ValidationStatus#VALID}, or the status of the invalid date
+	 *
+	 * @see ValidationStatus
+	 * @see CompiledDateFormat#decode(CharSequence, boolean)
+	 */
+	public int validate(String date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.compiledDateFormat.decode(date, true);
+		int status = packedDate < 0 && packedDate != CompiledDateFormat.UNPACKABLE ? packedDate : ValidationStatus.VALID;
+
+		if (packedDate == CompiledDateFormat.DEFERRED) {
+			status = this.parseStrictly(date) == null ? ValidationStatus.of(ValidationStatus.YEAR, this.compiledDateFormat.getYearOffset()) : ValidationStatus.VALID;
+		}
+
+		this.record(Operation.VALIDATE, status != ValidationStatus.VALID, startNanos, event);
+
+		return status;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the date is valid or not.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.isEffectiveDate(TODO);</strong><br>
+	 * <strong>then {@code true}</strong><br>
+	 * <br>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FORMAT_COMMA.getFormat());</strong><br>
+	 * <strong>calendarHandler.isEffectiveDate(TODO);</strong><br>
+	 * <strong>then {@code true}</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of the date
+	 * @return Returns {@code true} if the date is valid, or {@code false}
+	 */
+	public boolean isEffectiveDate(Date date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final boolean isEffective = this.isFormattable(date);
+
+		this.record(Operation.IS_EFFECTIVE_DATE, !isEffective, startNanos, event);
+
+		return isEffective;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Set date format.<br>
+	 * </DD>
+	 * <DT>Caution:</DT>
+	 * <DD>
+	 * It is advisable to use {@link DateFormatInfo}, as only the specified format is acceptable.<br>
+	 * If pass a format other than the format defined for the {@link DateFormatInfo} as the argument, IllegalArgumentException will be thrown.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param format [i] Value of date format
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see com.utilkit.java.common.StringChecker#isEffectiveString(String)
+	 * @see EnumLookupTable#getByFormat(String)
+	 * @see DateFormatInfo
+	 */
+	public void applyPattern(String format) {
+
+		if (!StringChecker.isEffectiveString(format)) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", format));
+		}
+
+		final DateFormatInfo dateFormatInfo = EnumLookupTable.<DateFormatInfo>of(DateFormatInfo.class).getByFormat(format);
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid format.", format));
+		}
+
+		this.applyPattern(dateFormatInfo);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Set the format of date with the date format information.<br>
+	 * The operations are recorded in {@link CalendarHandlerMetrics} for the passed format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public void applyPattern(DateFormatInfo dateFormatInfo) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		this.dateFormatInfo = dateFormatInfo;
+		this.compiledDateFormat = CompiledDateFormat.of(dateFormatInfo);
+		this.decodedDate = null;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert to String type from Date type.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns converted date
+	 *
+	 * @see #isEffectiveDate(Date)
+	 */
+	public String toString(Date date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final String formattedDate = this.toStringOf(date);
+
+		this.record(Operation.TO_STRING, formattedDate.isEmpty(), startNanos, event);
+
+		return formattedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert to Date type from String type.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns parsed date
+	 *
+	 * @see #isEffectiveDate(String)
+	 */
+	public Date toDate(String date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		Date parsedDate = null;
+
+		if (this.resolve(date, Operation.PARSE) != PackedDate.INVALID) {
+			try {
+				parsedDate = this.createDateFormat().parse(date);
+			} catch (ParseException e) {
+			}
+		} else {
+			// shouldn't happen
+			assert false;
+		}
+
+		this.record(Operation.TO_DATE, parsedDate == null, startNanos, event);
+
+		return parsedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert to the packed date in yyyyMMdd form from String type.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FINLAND.getFormat());</strong><br>
+	 * <strong>calendarHandler.toPackedDate("16.02.2019");</strong><br>
+	 * <strong>then 20190216</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns the packed date, or {@link PackedDate#INVALID}
+	 *
+	 * @see #decode(String)
+	 * @see PackedDate
+	 */
+	public int toPackedDate(String date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.decode(date);
+
+		this.record(Operation.TO_PACKED_DATE, packedDate == PackedDate.INVALID, startNanos, event);
+
+		return packedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert to String type from the packed date in yyyyMMdd form.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, empty string will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FINLAND.getFormat());</strong><br>
+	 * <strong>calendarHandler.toString(20190216);</strong><br>
+	 * <strong>then "16.02.2019"</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns converted date
+	 *
+	 * @see PackedDate
+	 */
+	public String toString(int packedDate) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final String formattedDate = PackedDate.isValid(packedDate) ? this.formatDate(packedDate) : "";
+
+		this.record(Operation.TO_STRING, formattedDate.isEmpty(), startNanos, event);
+
+		return formattedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the range of every day from the start date to the end date.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
+	 * <strong>calendarHandler.getDateRange("20190226", "20190302").format(calendarHandler.getCompiledDateFormat())</strong><br>
+	 * <strong>then "20190226", "20190227", "20190228", "20190301", "20190302"</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param startDate [i] The start date, inclusive
+	 * @param endDate [i] The end date, inclusive
+	 * @return Returns the date range
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see #getDateRange(String, String, Step, int)
+	 */
+	public DateRange getDateRange(String startDate, String endDate) {
+
+		return this.getDateRange(startDate, endDate, Step.DAY, 1);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the range of the dates from the start date to the end date by the step.<br>
+	 * The dates of the range are iterated without parsing and formatting the string,
+	 * and they are formatted only when they are consumed by {@link DateRange#format(CompiledDateFormat)}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param startDate [i] The start date, inclusive
+	 * @param endDate [i] The end date, inclusive
+	 * @param step [i] The unit of the step
+	 * @param amount [i] The amount of the step, which is 1 or more
+	 * @return Returns the date range
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see DateRange
+	 */
+	public DateRange getDateRange(String startDate, String endDate, Step step, int amount) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedStartDate = this.decode(startDate);
+		final int packedEndDate = packedStartDate == PackedDate.INVALID ? PackedDate.INVALID : this.decode(endDate);
+
+		this.record(Operation.GET_DATE_RANGE, packedEndDate == PackedDate.INVALID, startNanos, event);
+
+		if (packedStartDate == PackedDate.INVALID) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", startDate));
+		}
+
+		if (packedEndDate == PackedDate.INVALID) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", endDate));
+		}
+
+		return DateRange.of(packedStartDate, packedEndDate, step, amount);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Set the date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public void setDate(String date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final int packedDate = this.resolve(date, Operation.PARSE);
+
+		this.record(Operation.SET_DATE, packedDate == PackedDate.INVALID, startNanos, event);
+
+		if (packedDate == PackedDate.INVALID) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", date));
+		}
+
+		this.date = date;
+		this.decodedDate = packedDate == CompiledDateFormat.UNPACKABLE ? null : new DecodedDate(packedDate);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Set the date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param Date [i] Value of date
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public void setDate(Date date) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final String strDate = this.toStringOf(date);
+		final DecodedDate decodedDate = StringChecker.isEffectiveString(strDate) ? this.decodeDate(strDate) : null;
+
+		this.record(Operation.SET_DATE, decodedDate == null, startNanos, event);
+
+		if (!StringChecker.isEffectiveString(strDate)) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", date));
+		}
+
+		this.date = strDate;
+		this.decodedDate = decodedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the String date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the date.
+	 */
+	public String getDate() {
+
+		return this.date;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the compiled date format of the pattern applied to this instance.<br>
+	 * It can be used to parse and format the dates in the byte array, the buffer and the region of the character sequence without creating the string.<br>
+	 * </DD>
+	 * <DT>Caution:</DT>
+	 * <DD>
+	 * The compiled date format always parses the dates strictly regardless of {@link #setLenient(boolean)}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the compiled date format
+	 *
+	 * @see CompiledDateFormat#parse(byte[], int, int)
+	 * @see CompiledDateFormat#formatTo(int, byte[], int)
+	 */
+	public CompiledDateFormat getCompiledDateFormat() {
+
+		return this.compiledDateFormat;
+	}
+
+	@Override
+	public int hashCode() {
+
+		final int prime = 31;
+		int result = 1;
+
+		result = prime * result + ((date == null) ? 0 : date.hashCode());
+
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null) {
+			return false;
+		}
+
+		if (!(obj instanceof CalendarHandler)) {
+			return false;
+		}
+
+		CalendarHandler other = (CalendarHandler) obj;
+
+		if (date == null) {
+			if (other.date != null) {
+				return false;
+			}
+		} else if (!date.equals(other.date)) {
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	public String toString() {
+
+		String date = this.getDate();
+		StringBuilder sb = new StringBuilder();
+
+		sb	.append("CalendarHandler [date=")
+			.append(date)
+			.append(", getDate()=")
+			.append(date)
+			.append(", getSystemDate()=" )
+			.append(this.getSystemDate());
+
+		if (StringChecker.isEffectiveString(date)) {
+
+			// impossible to get results if date does not exist
+			sb	.append(", getDayOfWeekInfoByDate()=")
+				.append(this.getDayOfWeekInfoByDate())
+				.append(", getMonthInfoByDate()=")
+				.append(this.getMonthInfoByDate())
+				.append(", getFirstDayOfMonth()=")
+				.append(this.getFirstDayOfMonth())
+				.append(", getLastDayOfMonth()=")
+				.append(this.getLastDayOfMonth())
+				.append(", getBeginningDateOfWeek()=")
+				.append(this.getBeginningDateOfWeek())
+				.append(", getEndDateOfWeek()=")
+				.append(this.getEndDateOfWeek());
+		}
+
+		sb	.append(", hashCode()=")
+			.append(this.hashCode())
+			.append(", getClass()=")
+			.append(this.getClass())
+			.append(", toString()=")
+			.append(super.toString())
+			.append("]");
+
+		return sb.toString();
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the decoded date of {@link #date}.<br>
+	 * If the date has not been decoded with the current setting, it is decoded and held in this instance.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not set or it can not be decoded, null will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the decoded date, or null
+	 */
+	private DecodedDate getDecodedDate() {
+
+		if (this.decodedDate == null && StringChecker.isEffectiveString(this.date)) {
+			this.decodedDate = this.decodeDate(this.date);
+		}
+
+		return this.decodedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Decode the date passed as the argument and return it as the decoded date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not valid or it can not be packed in yyyyMMdd form, null will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns the decoded date, or null
+	 *
+	 * @see #decode(String)
+	 */
+	private DecodedDate decodeDate(String date) {
+
+		final int packedDate = this.decode(date);
+
+		if (packedDate == PackedDate.INVALID) {
+			return null;
+		}
+
+		return new DecodedDate(packedDate);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Decode the date passed as the argument and return it as the packed date in yyyyMMdd form.<br>
+	 * The year, month and day can be derived with {@link PackedDate}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not valid in the format of this instance or it can not be packed in yyyyMMdd form,
+	 * {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns the packed date, or {@link PackedDate#INVALID}
+	 *
+	 * @see #resolve(String, Operation)
+	 */
+	private int decode(String date) {
+
+		final int packedDate = this.resolve(date, Operation.PARSE);
+
+		return packedDate == CompiledDateFormat.UNPACKABLE ? PackedDate.INVALID : packedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate and decode the date passed as the argument.<br>
+	 * If {@link DateParseCache} is enabled for the format, the result is memoized in it.<br>
+	 * The operation is recorded in {@link CalendarHandlerMetrics} and {@link DateOperationEvent} if they are enabled.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @param operation [i] The operation recorded in {@link CalendarHandlerMetrics}
+	 * @return Returns the packed date, {@link PackedDate#INVALID} or {@link CompiledDateFormat#UNPACKABLE}
+	 *
+	 * @see DateParseCache#enable(DateFormatInfo, int)
+	 */
+	private int resolve(String date, Operation operation) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final DateParseCache cache = DateParseCache.getEnabled(this.compiledDateFormat.getDateFormatInfo());
+		int packedDate;
+
+		if (cache == null || date == null) {
+			packedDate = this.resolveUncached(date);
+		} else {
+			packedDate = cache.get(date, this.isLenient);
+
+			if (packedDate == DateParseCache.ABSENT) {
+				packedDate = this.resolveUncached(date);
+				cache.put(date, this.isLenient, packedDate);
+			}
+		}
+
+		this.record(operation, packedDate == PackedDate.INVALID, startNanos, event);
+
+		return packedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate and decode the date passed as the argument without the cache.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The date is decoded by {@link CompiledDateFormat#decode(CharSequence, boolean)} in the same way as {@link SimpleDateFormat} with {@link GregorianCalendar}
+	 * without throwing the exception nor creating any object, including the dates before the Gregorian cutover.<br>
+	 * Only the year of more than 8 digits is decoded with {@link SimpleDateFormat}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns the packed date, {@link PackedDate#INVALID} or {@link CompiledDateFormat#UNPACKABLE}
+	 *
+	 * @see CompiledDateFormat#decode(CharSequence, boolean)
+	 * @see #parseStrictly(String)
+	 */
+	private int resolveUncached(String date) {
+
+		final int packedDate = this.compiledDateFormat.decode(date, true);
+
+		if (packedDate != CompiledDateFormat.DEFERRED) {
+			return packedDate < 0 && packedDate != CompiledDateFormat.UNPACKABLE ? PackedDate.INVALID : packedDate;
+		}
+
+		final Date parsedDate = this.parseStrictly(date);
+
+		if (parsedDate == null) {
+			return PackedDate.INVALID;
+		}
+
+		final Calendar cal = createCalendar();
+		cal.setTime(parsedDate);
+
+		final int year = cal.get(Calendar.YEAR);
+
+		if (year > PackedDate.MAX_YEAR) {
+			// can't be packed in yyyyMMdd form
+			return CompiledDateFormat.UNPACKABLE;
+		}
+
+		return year * 10000 + (cal.get(Calendar.MONTH) + 1) * 100 + cal.get(Calendar.DAY_OF_MONTH);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the date strictly and return it.<br>
+	 * The date is valid only if the formatted string of the parsed date is the same as the argument.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not valid, null will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns parsed date, or null
+	 */
+	private Date parseStrictly(String date) {
+
+		final SimpleDateFormat sdf = this.createDateFormat();
+
+		try {
+			final Date tmpDate = sdf.parse(date);
+
+			if (!date.equals(sdf.format(tmpDate))) {
+				return null;
+			}
+
+			return tmpDate;
+		} catch (ParseException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the date format class with the format and the lenient setting of this instance.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * {@link SimpleDateFormat} is not thread-safe, so do not hold the created instance in the field.<br>
+	 * The date format always uses the ASCII digits and {@link GregorianCalendar} regardless of the default locale.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the date format class
+	 */
+	private SimpleDateFormat createDateFormat() {
+
+		// the digits and the calendar are pinned, so the date is the same as the one decoded by the compiled date format
+		final SimpleDateFormat sdf = new SimpleDateFormat(this.compiledDateFormat.getDateFormatInfo().getFormat(), Locale.ROOT);
+		sdf.setCalendar(createCalendar());
+		sdf.setLenient(this.isLenient);
+
+		return sdf;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format the packed date in the format of this instance.<br>
+	 * If {@link FormattedDateCache} is enabled for the format, the cached string is returned for the date in its window.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns formatted date
+	 *
+	 * @see FormattedDateCache#enable(DateFormatInfo, int, int)
+	 */
+	private String formatDate(int packedDate) {
+
+		final DateOperationEvent event = new DateOperationEvent();
+		event.begin();
+
+		final long startNanos = CalendarHandlerMetrics.ENABLED ? System.nanoTime() : 0L;
+		final FormattedDateCache cache = FormattedDateCache.getEnabled(this.compiledDateFormat.getDateFormatInfo());
+		final String formattedDate = cache == null ? this.compiledDateFormat.format(packedDate) : cache.format(packedDate);
+
+		this.record(Operation.FORMAT, formattedDate.isEmpty(), startNanos, event);
+
+		return formattedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Record the operation finished now in {@link CalendarHandlerMetrics} and Java Flight Recorder for the format requested for this instance.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * Nothing is recorded if the metrics are disabled and the event is not enabled in the recording.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param isInvalid [i] Whether the date passed to the operation is not valid
+	 * @param startNanos [i] The value of {@link System#nanoTime()} when the operation started, or 0 if the metrics are disabled
+	 * @param event [i] The event begun when the operation started
+	 */
+	private void record(Operation operation, boolean isInvalid, long startNanos, DateOperationEvent event) {
+
+		if (CalendarHandlerMetrics.ENABLED) {
+			CalendarHandlerMetrics.record(operation, this.dateFormatInfo, isInvalid, startNanos);
+		}
+
+		event.end();
+
+		if (event.shouldCommit()) {
+			event.operation = operation.name();
+			event.format = this.dateFormatInfo.name();
+			event.outcome = isInvalid ? "INVALID" : "VALID";
+			event.commit();
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format the date of the calendar in the format of this instance.<br>
+	 * The date which is not in the Gregorian calendar between 1583 and 9999 is formatted by {@link SimpleDateFormat}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param cal [i] The calendar set to the date
+	 * @return Returns formatted date
+	 */
+	private String formatCalendar(Calendar cal) {
+
+		final int year = cal.get(Calendar.YEAR);
+
+		if (cal.get(Calendar.ERA) != GregorianCalendar.AD || year < MIN_GREGORIAN_YEAR || year > PackedDate.MAX_YEAR) {
+			return this.createDateFormat().format(cal.getTime());
+		}
+
+		return this.formatDate(year * 10000 + (cal.get(Calendar.MONTH) + 1) * 100 + cal.get(Calendar.DAY_OF_MONTH));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the calendar class set to the date passed as the argument.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * {@link Calendar} is not thread-safe, so do not hold the created instance in the field.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the calendar class set to the date
+	 */
+	private Calendar createCalendar(int packedDate) {
+
+		final Calendar cal = createCalendar();
+
+		cal.clear();
+		cal.set(PackedDate.getYear(packedDate), PackedDate.getMonth(packedDate) - 1, PackedDate.getDay(packedDate));
+
+		return cal;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the calendar class set to the current time.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * {@link GregorianCalendar} is created regardless of the default locale,
+	 * so the Buddhist calendar of th_TH and the Japanese imperial calendar of ja_JP_JP are not used.<br>
+	 * {@link Calendar} is not thread-safe, so do not hold the created instance in the field.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the calendar class set to the current time
+	 */
+	private static Calendar createCalendar() {
+
+		return new GregorianCalendar();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the date can be formatted in the format of this instance or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of the date
+	 * @return Returns {@code true} if the date can be formatted, or {@code false}
 	 */
-	public boolean isEffectiveDate(String date) {
+	private boolean isFormattable(Date date) {
 
-		if (!StringChecker.isEffectiveString(date)) {
+		if (date == null) {
 			return false;
 		}
 
 		try {
-			final Date tmpDate = sdf.parse(date);
-
-			if (!date.equals(sdf.format(tmpDate))) {
-				return false;
-			}
-		} catch (ParseException e) {
+			this.createDateFormat().format(date);
+		} catch (Exception e) {
 			return false;
 		}
 
@@ -909,328 +2366,404 @@ public class CalendarHandler {
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Return boolean the date is valid or not.<br>
-	 * </DD>
-	 * <DT>Example:</DT>
-	 * <DD>
-	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance();</strong><br>
-	 * <strong>calendarHandler.isEffectiveDate(TODO);</strong><br>
-	 * <strong>then {@code true}</strong><br>
-	 * <br>
-	 * <strong>CalendarHandler calendarHandler = CalendarHandler.getInstance(DateFormatInfo.FORMAT_COMMA.getFormat());</strong><br>
-	 * <strong>calendarHandler.isEffectiveDate(TODO);</strong><br>
-	 * <strong>then {@code true}</strong><br>
+	 * Convert to String type from Date type.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @param date [i] Value of the date
-	 * @return Returns {@code true} if the date is valid, or {@code false}
+	 * @param date [i] Value of date
+	 * @return Returns converted date
 	 */
-	public boolean isEffectiveDate(Date date) {
+	private String toStringOf(Date date) {
 
-		if (date == null) {
-			return false;
+		if (!this.isFormattable(date)) {
+			// shouldn't happen
+			assert false;
+			return "";
 		}
 
-		try {
-			sdf.format(date);
-		} catch (Exception e) {
-			return false;
-		}
+		final Calendar cal = createCalendar();
+		cal.setTime(date);
 
-		return true;
+		return this.formatCalendar(cal);
 	}
 
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Set date format.<br>
-	 * </DD>
-	 * <DT>Caution:</DT>
-	 * <DD>
-	 * It is advisable to use {@link DateFormatInfo}, as only the specified format is acceptable.<br>
-	 * If pass a format other than the format defined for the {@link DateFormatInfo} as the argument, IllegalArgumentException will be thrown.<br>
+	 * Return enum class of week information linked to the decoded date.<br>
+	 * The date before the Gregorian cutover is calculated by {@link Calendar}.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @param format [i] Value of date format
-	 * @throws IllegalArgumentException throws when the argument is not valid
-	 *
-	 * @see com.utilkit.java.common.StringChecker#isEffectiveString(String)
-	 * @see com.utilkit.java.CalendarHandler.IFormatInfoEnum#hasFormat(Class, String)
-	 * @see DateFormatInfo
+	 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+	 * @return Returns week information linked to the date
 	 */
-	public void applyPattern(String format) {
+	private WeekInfo dayOfWeekInfoOf(int packedDate) {
 
-		if (!StringChecker.isEffectiveString(format)) {
-			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", format));
+		if (isGregorian(packedDate)) {
+			return gregorianDayOfWeekInfoOf(packedDate);
 		}
 
-		if (!IFormatInfoEnum.hasFormat(DateFormatInfo.class, format)) {
-			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid format.", format));
-		}
+		final int code = this.createCalendar(packedDate).get(Calendar.DAY_OF_WEEK);
 
-		sdf.applyPattern(format);
+		return EnumLookupTable.<WeekInfo>of(WeekInfo.class).getByCode(code);
 	}
 
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Convert to String type from Date type.<br>
+	 * Return enum class of week information linked to the packed date in the proleptic Gregorian calendar.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @param date [i] Value of date
-	 * @return Returns converted date
-	 *
-	 * @see #isEffectiveDate(Date)
+	 * @param packedDate [i] Value of the valid date in yyyyMMdd form
+	 * @return Returns week information linked to the date
 	 */
-	public String toString(Date date) {
+	private static WeekInfo gregorianDayOfWeekInfoOf(int packedDate) {
 
-		if (!this.isEffectiveDate(date)) {
-			// shouldn't happen
-			assert false;
-			return "";
-		}
+		final int code = CalendarTable.getInstance().dayOfWeek(PackedDate.getYear(packedDate), PackedDate.getMonth(packedDate), PackedDate.getDay(packedDate));
 
-		return sdf.format(date);
+		return EnumLookupTable.<WeekInfo>of(WeekInfo.class).getByCode(code);
 	}
 
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Convert to Date type from String type.<br>
+	 * Return enum class of month information linked to the decoded date.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @param date [i] Value of date
-	 * @return Returns parsed date
+	 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+	 * @return Returns month information linked to the date
+	 */
+	private static MonthInfo monthInfoOf(int packedDate) {
+
+		// the month is the same in the Julian calendar
+		final int code = PackedDate.getMonth(packedDate) - 1;
+
+		return EnumLookupTable.<MonthInfo>of(MonthInfo.class).getByCode(code);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Increase or decrease the decoded date and return it in the format of this instance.<br>
+	 * The date before the Gregorian cutover is calculated by {@link Calendar}.<br>
+	 * </DD>
+	 * </DL>
 	 *
-	 * @see #isEffectiveDate(String)
+	 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+	 * @param amountYear [i] Increase / Decrease in Year
+	 * @param amountMonth [i] Increase / Decrease in Month
+	 * @param amountDay [i] Increase / Decrease in day
+	 * @return Returns an adjusted date
 	 */
-	public Date toDate(String date) {
+	private String adjustDateOf(int packedDate, int amountYear, int amountMonth, int amountDay) {
 
-		if (!this.isEffectiveDate(date)) {
-			// shouldn't happen
-			assert false;
-			return null;
-		}
+		// the date in each step must be after the Gregorian cutover to get the same result as the calendar class
+		final int adjustedDate = PackedDate.adjust(packedDate, amountYear, amountMonth, amountDay, MIN_GREGORIAN_YEAR);
 
-		Date parsedDate = null;
+		if (adjustedDate == PackedDate.INVALID) {
+			final Calendar cal = this.createCalendar(packedDate);
 
-		try {
-			parsedDate = sdf.parse(date);
-		} catch (ParseException e) {
+			cal.add(Calendar.YEAR, amountYear);
+			cal.add(Calendar.MONTH, amountMonth);
+			cal.add(Calendar.DAY_OF_MONTH, amountDay);
+
+			return this.createDateFormat().format(cal.getTime());
 		}
 
-		return parsedDate;
+		return this.formatDate(adjustedDate);
 	}
 
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Set the date.<br>
+	 * Return the first day of the month of the decoded date.<br>
+	 * The date before the Gregorian cutover is calculated by {@link Calendar}.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @param date [i] Value of date
-	 * @throws IllegalArgumentException throws when the argument is not valid
+	 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+	 * @return Returns the first day of the month
 	 */
-	public void setDate(String date) {
+	private int firstDayOfMonthOf(int packedDate) {
 
-		if (!isEffectiveDate(date)) {
-			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", date));
+		if (!isGregorian(packedDate)) {
+			return this.createCalendar(packedDate).getActualMinimum(Calendar.DAY_OF_MONTH);
 		}
 
-		this.date = date;
+		return 1;
 	}
 
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Set the date.<br>
+	 * Return the last day of the month of the decoded date.<br>
+	 * The date before the Gregorian cutover is calculated by {@link Calendar}.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @param Date [i] Value of date
-	 * @throws IllegalArgumentException throws when the argument is not valid
+	 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+	 * @return Returns the last day of the month
 	 */
-	public void setDate(Date date) {
-
-		final String strDate = this.toString(date);
+	private int lastDayOfMonthOf(int packedDate) {
 
-		if (!StringChecker.isEffectiveString(strDate)) {
-			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", date));
+		if (!isGregorian(packedDate)) {
+			return this.createCalendar(packedDate).getActualMaximum(Calendar.DAY_OF_MONTH);
 		}
 
-		this.date = strDate;
+		return gregorianLengthOfMonth(packedDate);
 	}
 
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Return the String date.<br>
+	 * Return the number of the days of the month of the packed date in the proleptic Gregorian calendar.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @return Returns the date.
+	 * @param packedDate [i] Value of the valid date in yyyyMMdd form
+	 * @return Returns the last day of the month
 	 */
-	public String getDate() {
-
-		return this.date;
-	}
-
-	@Override
-	public int hashCode() {
-
-		final int prime = 31;
-		int result = 1;
-
-		result = prime * result + ((date == null) ? 0 : date.hashCode());
+	private static int gregorianLengthOfMonth(int packedDate) {
 
-		return result;
+		return CalendarTable.getInstance().lengthOfMonth(PackedDate.getYear(packedDate), PackedDate.getMonth(packedDate));
 	}
 
-	@Override
-	public boolean equals(Object obj) {
-
-		if (this == obj) {
-			return true;
-		}
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the beginning day of the week of the decoded date in the format of this instance.<br>
+	 * The date before the Gregorian cutover is calculated by {@link Calendar}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+	 * @return Returns the beginning day of the week
+	 */
+	private String beginningDateOfWeekOf(int packedDate) {
 
-		if (obj == null) {
-			return false;
-		}
+		final int weekStart = isGregorian(packedDate) ? this.weekDefinition.getBeginningDateOfWeek(packedDate) : PackedDate.INVALID;
 
-		if (!(obj instanceof CalendarHandler)) {
-			return false;
-		}
+		if (weekStart == PackedDate.INVALID || !isGregorian(weekStart)) {
+			final Calendar cal = this.createCalendar(packedDate);
 
-		CalendarHandler other = (CalendarHandler) obj;
+			final int dayOfweek = cal.get(Calendar.DAY_OF_WEEK);
+			cal.add(Calendar.DAY_OF_MONTH, -this.weekDefinition.daysFromBeginningOfWeek(dayOfweek));
 
-		if (date == null) {
-			if (other.date != null) {
-				return false;
-			}
-		} else if (!date.equals(other.date)) {
-			return false;
+			return this.createDateFormat().format(cal.getTime());
 		}
 
-		return true;
+		return this.formatDate(weekStart);
 	}
 
-	@Override
-	public String toString() {
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the end day of the week of the decoded date in the format of this instance.<br>
+	 * The date before the Gregorian cutover is calculated by {@link Calendar}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+	 * @return Returns the end day of the week
+	 */
+	private String endDateOfWeekOf(int packedDate) {
 
-		String date = this.getDate();
-		StringBuilder sb = new StringBuilder();
+		final int weekEnd = isGregorian(packedDate) ? this.weekDefinition.getEndDateOfWeek(packedDate) : PackedDate.INVALID;
 
-		sb	.append("CalendarHandler [date=")
-			.append(date)
-			.append(", getDate()=")
-			.append(date)
-			.append(", getSystemDate()=" )
-			.append(this.getSystemDate());
+		if (weekEnd == PackedDate.INVALID || !isGregorian(weekEnd)) {
+			final Calendar cal = this.createCalendar(packedDate);
 
-		if (StringChecker.isEffectiveString(date)) {
+			final int dayOfweek = cal.get(Calendar.DAY_OF_WEEK);
+			cal.add(Calendar.DAY_OF_MONTH, -this.weekDefinition.daysFromBeginningOfWeek(dayOfweek) + 6);
 
-			// impossible to get results if date does not exist
-			sb	.append(", getDayOfWeekInfoByDate()=")
-				.append(this.getDayOfWeekInfoByDate())
-				.append(", getMonthInfoByDate()=")
-				.append(this.getMonthInfoByDate())
-				.append(", getFirstDayOfMonth()=")
-				.append(this.getFirstDayOfMonth())
-				.append(", getLastDayOfMonth()=")
-				.append(this.getLastDayOfMonth())
-				.append(", getBeginningDateOfWeek()=")
-				.append(this.getBeginningDateOfWeek())
-				.append(", getEndDateOfWeek()=")
-				.append(this.getEndDateOfWeek());
+			return this.createDateFormat().format(cal.getTime());
 		}
 
-		sb	.append(", hashCode()=")
-			.append(this.hashCode())
-			.append(", getClass()=")
-			.append(this.getClass())
-			.append(", toString()=")
-			.append(super.toString())
-			.append("]");
-
-		return sb.toString();
+		return this.formatDate(weekEnd);
 	}
 
-	// ================= private methods =====================================
-
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Sprit the date passed as then argument and return as Map.<br>
+	 * Return the week or the week-based year of the decoded date.<br>
+	 * The date before the Gregorian cutover is calculated by {@link Calendar} with the definition of the week.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The first days of 1583 can belong to the last week of 1582, which {@link Calendar} counts from the start of 1582 in the Julian calendar,
+	 * so the date of which week-based year is before the first Gregorian year is also calculated by {@link Calendar}.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @param date [i] Value of date
-	 * @return Returns Map with sprited date stored
-	 *
-	 * @see #isEffectiveDate(String)
-	 * @see #trimSymbolFrom(String)
-	 * @see FormatInfo#yyyy
-	 * @see FormatInfo#MM
-	 * @see FormatInfo#dd
+	 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+	 * @param field [i] {@link Calendar#WEEK_OF_YEAR} for the week, or {@link Calendar#YEAR} for the week-based year
+	 * @return Returns the week or the week-based year
 	 */
-	private Map<String, String> spritDate(String date) {
+	private int weekFieldOf(int packedDate, int field) {
 
-		final Map<String, String> dateMap = new HashMap<String, String>();
+		final int yearWeek = isGregorian(packedDate) ? this.weekDefinition.getYearWeek(packedDate) : PackedDate.INVALID;
 
-		if (!this.isEffectiveDate(date)) {
-			return dateMap;
-		}
-
-		final String trimmedDate = this.trimSymbolFrom(date);
+		if (yearWeek / 100 < MIN_GREGORIAN_YEAR) {
+			final Calendar cal = this.createCalendar(packedDate);
+			this.weekDefinition.applyTo(cal);
 
-		if (trimmedDate.length() == 8) {
-			dateMap.put(FormatInfo.yyyy.getFormat(), trimmedDate.substring(0, 4));
-			dateMap.put(FormatInfo.MM.getFormat(), trimmedDate.substring(4, 6));
-			dateMap.put(FormatInfo.dd.getFormat(), trimmedDate.substring(6, 8));
+			return field == Calendar.YEAR ? cal.getWeekYear() : cal.get(Calendar.WEEK_OF_YEAR);
 		}
 
-		return dateMap;
+		return field == Calendar.YEAR ? yearWeek / 100 : yearWeek % 100;
 	}
 
 	/**
 	 * <DL>
 	 * <DT>Description:</DT>
 	 * <DD>
-	 * Trim the symbols contained in the string and return it.<br>
+	 * Return boolean the packed date can be calculated by {@link CivilCalendar} or not.<br>
 	 * </DD>
 	 * </DL>
 	 *
-	 * @param string [i] Value of date
-	 * @return Returns trimmed string
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns {@code true} if the date is after the Gregorian cutover, or {@code false}
+	 */
+	private static boolean isGregorian(int packedDate) {
+
+		final int year = PackedDate.getYear(packedDate);
+
+		return year >= MIN_GREGORIAN_YEAR && year <= PackedDate.MAX_YEAR;
+	}
+
+	// ================= inner classes =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This class was created to hold the date decoded once when the date is set.<br>
+	 * The packed date, year, month and day are fixed when the instance is created,
+	 * and the derived values such as the day of week and the week bounds are calculated when they are needed for the first time.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The derived values are calculated with the setting of the outer instance,
+	 * so the instance is discarded when the format, the lenient setting or the week definition of the outer instance is changed.<br>
+	 * The derived values are immutable, so calculating them twice on a race does not change the result.<br>
+	 * </DD>
+	 * </DL>
 	 *
-	 * @see SymbolInfo
-	 * @see SymbolInfo#getFormat()
+	 * @author Kato Shinya
+	 * @since 2026.10.17
+	 * @version 1.0
 	 */
-	private String trimSymbolFrom(String string) {
+	private final class DecodedDate {
+
+		private final int packedDate;
+		private final int year;
+		private final int month;
+		private final int day;
+
+		private WeekInfo dayOfWeekInfo = null;
+		private MonthInfo monthInfo = null;
+		private int lastDayOfMonth = 0;
+		private String beginningDateOfWeek = null;
+		private String endDateOfWeek = null;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to decompose the packed date.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param packedDate [i] Value of the decoded date in yyyyMMdd form
+		 */
+		private DecodedDate(int packedDate) {
+
+			this.packedDate = packedDate;
+			this.year = PackedDate.getYear(packedDate);
+			this.month = PackedDate.getMonth(packedDate);
+			this.day = PackedDate.getDay(packedDate);
+		}
+
+		private WeekInfo getDayOfWeekInfo() {
+
+			WeekInfo dayOfWeekInfo = this.dayOfWeekInfo;
+
+			if (dayOfWeekInfo == null) {
+				dayOfWeekInfo = isGregorian(this.packedDate)
+						? EnumLookupTable.<WeekInfo>of(WeekInfo.class).getByCode(CalendarTable.getInstance().dayOfWeek(this.year, this.month, this.day))
+						: dayOfWeekInfoOf(this.packedDate);
+				this.dayOfWeekInfo = dayOfWeekInfo;
+			}
+
+			return dayOfWeekInfo;
+		}
+
+		private MonthInfo getMonthInfo() {
+
+			MonthInfo monthInfo = this.monthInfo;
+
+			if (monthInfo == null) {
+				monthInfo = monthInfoOf(this.packedDate);
+				this.monthInfo = monthInfo;
+			}
+
+			return monthInfo;
+		}
 
-		String trimmedString = string;
-		final SymbolInfo[] symbolInfo = SymbolInfo.values();
+		private int getFirstDayOfMonth() {
 
-		for (SymbolInfo e : symbolInfo) {
-			// trim symbols
-			trimmedString = trimmedString.replace(e.getFormat(), "");
+			return isGregorian(this.packedDate) ? 1 : firstDayOfMonthOf(this.packedDate);
 		}
 
-		// should 8 bytes in yyyyMMdd format
-		assert trimmedString.length() == 8;
+		private int getLastDayOfMonth() {
 
-		return trimmedString;
+			int lastDayOfMonth = this.lastDayOfMonth;
+
+			if (lastDayOfMonth == 0) {
+				lastDayOfMonth = isGregorian(this.packedDate)
+						? CalendarTable.getInstance().lengthOfMonth(this.year, this.month)
+						: lastDayOfMonthOf(this.packedDate);
+				this.lastDayOfMonth = lastDayOfMonth;
+			}
+
+			return lastDayOfMonth;
+		}
+
+		private String getBeginningDateOfWeek() {
+
+			String beginningDateOfWeek = this.beginningDateOfWeek;
+
+			if (beginningDateOfWeek == null) {
+				beginningDateOfWeek = beginningDateOfWeekOf(this.packedDate);
+				this.beginningDateOfWeek = beginningDateOfWeek;
+			}
+
+			return beginningDateOfWeek;
+		}
+
+		private String getEndDateOfWeek() {
+
+			String endDateOfWeek = this.endDateOfWeek;
+
+			if (endDateOfWeek == null) {
+				endDateOfWeek = endDateOfWeekOf(this.packedDate);
+				this.endDateOfWeek = endDateOfWeek;
+			}
+
+			return endDateOfWeek;
+		}
 	}
 }
@@ -0,0 +1,785 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to record the number and the latency of the operations of {@link CalendarHandler}
+ * for each operation and date format information.<br>
+ * The counters are {@link LongAdder}, so the threads recording the same operation do not contend on a single variable.<br>
+ * The latency is recorded in the histogram of which bucket {@code i} counts the latency from {@code 2^i} to {@code 2^(i+1)} nanoseconds.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * The metrics are recorded only when the system property {@value #ENABLED_PROPERTY} is {@code true} at the start of the application.<br>
+ * <strong>java -Dcom.utilkit.java.CalendarHandler.metrics=true ...</strong><br>
+ * Then the metrics can be pulled with {@link #getInstance()}, or read through the MBean named {@value #OBJECT_NAME}.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The setting is held in a constant, so the disabled recording is removed from the compiled code and costs nothing.<br>
+ * The hit ratios of the caches are read from {@link DateParseCache} and {@link FormattedDateCache} enabled currently.<br>
+ * The operations are recorded for the format requested for {@link CalendarHandler}, so use {@link CalendarHandler#getInstance(DateFormatInfo)}
+ * to tell the formats of the same pattern such as {@link DateFormatInfo#CANADA} and {@link DateFormatInfo#ENGLAND} apart.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CalendarHandlerMetricsMXBean
+ */
+public final class CalendarHandlerMetrics implements CalendarHandlerMetricsMXBean {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This enum class was defined to represent the operations recorded in the metrics.<br>
+	 * Each public method of {@link CalendarHandler} on the date is recorded as one operation, and the overloads share the operation.<br>
+	 * {@link #PARSE} and {@link #FORMAT} are the phases recorded inside them, so they are also counted in the operation that called them.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public enum Operation {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The phase to parse the date string, recorded inside the operations taking the date string.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		PARSE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The phase to format the date, recorded inside the operations returning the date string.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		FORMAT,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getSystemDate()}.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_SYSTEM_DATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getDayOfWeekInfoByDate(String)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_DAY_OF_WEEK_INFO_BY_DATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getMonthInfoByDate(String)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_MONTH_INFO_BY_DATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#adjustDate(String, int, int, int)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		ADJUST_DATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getFirstDayOfMonth(String)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_FIRST_DAY_OF_MONTH,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getLastDayOfMonth(String)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_LAST_DAY_OF_MONTH,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getBeginningDateOfWeek(String)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_BEGINNING_DATE_OF_WEEK,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getEndDateOfWeek(String)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_END_DATE_OF_WEEK,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getWeekOfYear(String)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_WEEK_OF_YEAR,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getWeekBasedYear(String)} and its overloads.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_WEEK_BASED_YEAR,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#isEffectiveDate(String)} and {@link CalendarHandler#isEffectiveDate(java.util.Date)}.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		IS_EFFECTIVE_DATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#validate(String)}.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		VALIDATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#toString(int)} and {@link CalendarHandler#toString(java.util.Date)}.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		TO_STRING,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#toDate(String)}.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		TO_DATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#toPackedDate(String)}.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		TO_PACKED_DATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#setDate(String)} and {@link CalendarHandler#setDate(java.util.Date)}.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		SET_DATE,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The operation of {@link CalendarHandler#getDateRange(String, String)} and its overload.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GET_DATE_RANGE;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The name of the system property to enable the metrics.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final String ENABLED_PROPERTY = "com.utilkit.java.CalendarHandler.metrics";
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The object name of the MBean registered when the metrics are enabled.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final String OBJECT_NAME = "com.utilkit.java.CalendarHandler:type=CalendarHandlerMetrics";
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the buckets of the latency histogram.<br>
+	 * The last bucket also counts the latency longer than its range.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int BUCKET_COUNT = 40;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Whether the metrics are recorded.<br>
+	 * It is read in the hot path of {@link CalendarHandler}, so it must be a constant.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+	private static final int FORMAT_COUNT = DateFormatInfo.values().length;
+	private static final CalendarHandlerMetrics INSTANCE = new CalendarHandlerMetrics();
+
+	static {
+		if (ENABLED) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+			} catch (JMException e) {
+				// the metrics are still available with getInstance(), e.g. when another class loader has registered it
+			}
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The recorders indexed by the ordinal of the operation and the date format information.<br>
+	 * If the metrics are disabled, all elements are the same recorder that is never updated.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final Recorder[] recorders = new Recorder[Operation.values().length * FORMAT_COUNT];
+
+	/**
+	 * This constructor is used for class initialization.
+	 *
+	 * @see #getInstance()
+	 */
+	private CalendarHandlerMetrics() {
+
+		final Recorder emptyRecorder = ENABLED ? null : new Recorder();
+
+		for (int i = 0; i < this.recorders.length; i++) {
+			this.recorders[i] = ENABLED ? new Recorder() : emptyRecorder;
+		}
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the metrics shared by all instances of {@link CalendarHandler}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the metrics
+	 */
+	public static CalendarHandlerMetrics getInstance() {
+
+		return INSTANCE;
+	}
+
+	// ================= public methods =====================================
+
+	@Override
+	public boolean isEnabled() {
+
+		return ENABLED;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the operations in the format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the number of the operations
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public long getCount(Operation operation, DateFormatInfo dateFormatInfo) {
+
+		return this.recorderOf(operation, dateFormatInfo).count.sum();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the invalid dates passed to the operation in the format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the number of the invalid dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public long getInvalidCount(Operation operation, DateFormatInfo dateFormatInfo) {
+
+		return this.recorderOf(operation, dateFormatInfo).invalidCount.sum();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the total latency of the operation in the format in nanoseconds.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the total latency in nanoseconds
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public long getTotalNanos(Operation operation, DateFormatInfo dateFormatInfo) {
+
+		return this.recorderOf(operation, dateFormatInfo).totalNanos.sum();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the copy of the latency histogram of the operation in the format.<br>
+	 * The element {@code i} is the number of the operations that took from {@code 2^i} to {@code 2^(i+1)} nanoseconds.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the histogram of {@link #BUCKET_COUNT} elements
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public long[] getHistogram(Operation operation, DateFormatInfo dateFormatInfo) {
+
+		final LongAdder[] buckets = this.recorderOf(operation, dateFormatInfo).buckets;
+		final long[] histogram = new long[BUCKET_COUNT];
+
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			histogram[i] = buckets[i].sum();
+		}
+
+		return histogram;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the upper bound of the bucket containing the percentile of the latency.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CalendarHandlerMetrics.getInstance().getPercentileNanos(Operation.PARSE, DateFormatInfo.SLASH, 0.99);</strong><br>
+	 * <strong>then 128 if 99% of the dates were parsed in less than 128 nanoseconds</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param dateFormatInfo [i] The date format information
+	 * @param percentile [i] The percentile from 0 to 1
+	 * @return Returns the upper bound of the latency in nanoseconds, or 0 if no operation has been recorded
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public long getPercentileNanos(Operation operation, DateFormatInfo dateFormatInfo, double percentile) {
+
+		if (!(percentile >= 0 && percentile <= 1)) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", percentile));
+		}
+
+		final long[] histogram = this.getHistogram(operation, dateFormatInfo);
+		long total = 0;
+
+		for (long count : histogram) {
+			total += count;
+		}
+
+		if (total == 0) {
+			return 0;
+		}
+
+		final long rank = Math.max(1, (long) Math.ceil(total * percentile));
+		long cumulative = 0;
+
+		for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+			cumulative += histogram[i];
+
+			if (cumulative >= rank) {
+				return 1L << (i + 1);
+			}
+		}
+
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public long getParseCount() {
+
+		return this.sum(Operation.PARSE, recorder -> recorder.count.sum());
+	}
+
+	@Override
+	public long getValidateCount() {
+
+		return this.sum(Operation.VALIDATE, recorder -> recorder.count.sum());
+	}
+
+	@Override
+	public long getFormatCount() {
+
+		return this.sum(Operation.FORMAT, recorder -> recorder.count.sum());
+	}
+
+	@Override
+	public double getInvalidRatio() {
+
+		final long count = this.getParseCount() + this.getValidateCount();
+		final long invalidCount = this.sum(Operation.PARSE, recorder -> recorder.invalidCount.sum())
+				+ this.sum(Operation.VALIDATE, recorder -> recorder.invalidCount.sum());
+
+		return ratio(invalidCount, count);
+	}
+
+	@Override
+	public double getParseCacheHitRatio() {
+
+		long hitCount = 0;
+		long lookupCount = 0;
+
+		for (DateFormatInfo e : DateFormatInfo.values()) {
+			final DateParseCache cache = DateParseCache.getEnabled(e);
+
+			if (cache != null) {
+				hitCount += cache.getHitCount();
+				lookupCount += cache.getHitCount() + cache.getMissCount();
+			}
+		}
+
+		return ratio(hitCount, lookupCount);
+	}
+
+	@Override
+	public double getFormatCacheHitRatio() {
+
+		long hitCount = 0;
+		long lookupCount = 0;
+
+		for (DateFormatInfo e : DateFormatInfo.values()) {
+			final FormattedDateCache cache = FormattedDateCache.getEnabled(e);
+
+			if (cache != null) {
+				hitCount += cache.getHitCount();
+				lookupCount += cache.getHitCount() + cache.getMissCount();
+			}
+		}
+
+		return ratio(hitCount, lookupCount);
+	}
+
+	@Override
+	public Map<String, Long> getCounts() {
+
+		return this.toMap(recorder -> recorder.count.sum());
+	}
+
+	@Override
+	public Map<String, Long> getInvalidCounts() {
+
+		return this.toMap(recorder -> recorder.invalidCount.sum());
+	}
+
+	@Override
+	public Map<String, Long> getMeanNanos() {
+
+		return this.toMap(recorder -> recorder.totalNanos.sum() / Math.max(1, recorder.count.sum()));
+	}
+
+	@Override
+	public Map<String, Long> getPercentile99Nanos() {
+
+		final Map<String, Long> map = new LinkedHashMap<String, Long>();
+
+		for (Operation operation : Operation.values()) {
+			for (DateFormatInfo dateFormatInfo : DateFormatInfo.values()) {
+				if (this.getCount(operation, dateFormatInfo) != 0) {
+					map.put(operation + ":" + dateFormatInfo, this.getPercentileNanos(operation, dateFormatInfo, 0.99));
+				}
+			}
+		}
+
+		return Collections.unmodifiableMap(map);
+	}
+
+	@Override
+	public void reset() {
+
+		if (!ENABLED) {
+			return;
+		}
+
+		for (Recorder recorder : this.recorders) {
+			recorder.count.reset();
+			recorder.invalidCount.reset();
+			recorder.totalNanos.reset();
+
+			for (LongAdder bucket : recorder.buckets) {
+				bucket.reset();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("CalendarHandlerMetrics [enabled=%s, parseCount=%d, validateCount=%d, formatCount=%d, invalidRatio=%s]",
+				ENABLED, this.getParseCount(), this.getValidateCount(), this.getFormatCount(), this.getInvalidRatio());
+	}
+
+	// ================= package-private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Record the operation finished now.<br>
+	 * </DD>
+	 * <DT>Caution:</DT>
+	 * <DD>
+	 * It must be called only if {@link #ENABLED} is {@code true}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param dateFormatInfo [i] The date format information
+	 * @param isInvalid [i] Whether the date passed to the operation is not valid
+	 * @param startNanos [i] The value of {@link System#nanoTime()} when the operation started
+	 */
+	static void record(Operation operation, DateFormatInfo dateFormatInfo, boolean isInvalid, long startNanos) {
+
+		final long nanos = Math.max(0, System.nanoTime() - startNanos);
+		final Recorder recorder = INSTANCE.recorders[operation.ordinal() * FORMAT_COUNT + dateFormatInfo.ordinal()];
+
+		recorder.count.increment();
+		recorder.totalNanos.add(nanos);
+		recorder.buckets[Math.min(BUCKET_COUNT - 1, 63 - Long.numberOfLeadingZeros(nanos | 1))].increment();
+
+		if (isInvalid) {
+			recorder.invalidCount.increment();
+		}
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the recorder of the operation in the format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the recorder
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	private Recorder recorderOf(Operation operation, DateFormatInfo dateFormatInfo) {
+
+		if (operation == null || dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		return this.recorders[operation.ordinal() * FORMAT_COUNT + dateFormatInfo.ordinal()];
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the sum of the value of the recorders of the operation in all formats.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The operation
+	 * @param valueFunction [i] The function to read the value of the recorder
+	 * @return Returns the sum of the value
+	 */
+	private long sum(Operation operation, ToLongFunction<Recorder> valueFunction) {
+
+		long sum = 0;
+
+		for (int i = 0; i < FORMAT_COUNT; i++) {
+			sum += valueFunction.applyAsLong(this.recorders[operation.ordinal() * FORMAT_COUNT + i]);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the map of the value of the recorders that have been recorded, keyed by the operation and the format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param valueFunction [i] The function to read the value of the recorder
+	 * @return Returns the unmodifiable map of the value
+	 */
+	private Map<String, Long> toMap(ToLongFunction<Recorder> valueFunction) {
+
+		final Map<String, Long> map = new LinkedHashMap<String, Long>();
+
+		for (Operation operation : Operation.values()) {
+			for (DateFormatInfo dateFormatInfo : DateFormatInfo.values()) {
+				final Recorder recorder = this.recorderOf(operation, dateFormatInfo);
+
+				if (recorder.count.sum() != 0) {
+					map.put(operation + ":" + dateFormatInfo, valueFunction.applyAsLong(recorder));
+				}
+			}
+		}
+
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the ratio of the numbers.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param count [i] The number
+	 * @param total [i] The total number
+	 * @return Returns the ratio, or 0 if the total number is 0
+	 */
+	private static double ratio(long count, long total) {
+
+		return total == 0 ? 0 : (double) count / total;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This class was created to hold the counters of an operation in a format.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final class Recorder {
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder invalidCount = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to create the counters.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		private Recorder() {
+
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				this.buckets[i] = new LongAdder();
+			}
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Map;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This interface was created to expose the metrics of {@link CalendarHandler} through JMX.<br>
+ * The maps are keyed by the operation and the date format information such as {@code "ADJUST_DATE:SLASH"},
+ * and only the pairs that have been recorded are contained.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CalendarHandlerMetrics
+ */
+public interface CalendarHandlerMetricsMXBean {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the metrics are recorded or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns {@code true} if the metrics are recorded, or {@code false}
+	 */
+	public boolean isEnabled();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the dates parsed in all formats.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the dates parsed
+	 */
+	public long getParseCount();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the dates validated in all formats.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the dates validated
+	 */
+	public long getValidateCount();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the dates formatted in all formats.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the dates formatted
+	 */
+	public long getFormatCount();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the ratio of the invalid dates in the dates parsed and validated.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the ratio from 0 to 1, or 0 if no date has been parsed nor validated
+	 */
+	public double getInvalidRatio();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the hit ratio of {@link DateParseCache} enabled currently.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the ratio from 0 to 1, or 0 if no cache has been looked up
+	 */
+	public double getParseCacheHitRatio();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the hit ratio of {@link FormattedDateCache} enabled currently.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the ratio from 0 to 1, or 0 if no cache has been looked up
+	 */
+	public double getFormatCacheHitRatio();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the operations for each operation and format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the map of the number of the operations
+	 */
+	public Map<String, Long> getCounts();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the invalid dates for each operation and format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the map of the number of the invalid dates
+	 */
+	public Map<String, Long> getInvalidCounts();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the mean latency in nanoseconds for each operation and format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the map of the mean latency
+	 */
+	public Map<String, Long> getMeanNanos();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the upper bound of the 99th percentile latency in nanoseconds for each operation and format.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the map of the 99th percentile latency
+	 */
+	public Map<String, Long> getPercentile99Nanos();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Reset all metrics recorded so far.<br>
+	 * The counters of the caches are not reset.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public void reset();
+}
@@ -0,0 +1,500 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Calendar;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to look up the facts of the year and the month from the precomputed tables.<br>
+ * The length of the month, the day of week of the first day of the month and the day of year are read from the tables
+ * within the range of the years, and they are calculated by {@link CivilCalendar} out of the range.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #getInstance()} to use the shared table from 1900 to 2199.<br>
+ * Use {@link #of(int, int)} to create the table of the other range.<br>
+ * The instance is immutable, so it can be shared between threads.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The table has an int of the epoch day of January 1 for each year and a byte for each month,
+ * so the table of 300 years is about 5 KB and stays in the CPU cache.<br>
+ * The byte of the month has the day of week of the first day in the upper bits and the length of the month minus 28 in the lower 2 bits.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * As with {@link CivilCalendar}, this class follows the proleptic Gregorian calendar and does not validate the dates.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CivilCalendar
+ */
+public final class CalendarTable {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The first year of the shared table.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int DEFAULT_FROM_YEAR = 1900;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The last year of the shared table.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int DEFAULT_TO_YEAR = 2199;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of days before the first day of each month, indexed by 1 for the leap year or 0 and the month from 0 to 12.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final short[][] DAYS_BEFORE_MONTH = createDaysBeforeMonth();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The month of each day of year, indexed by 1 for the leap year or 0 and the day of year from 0.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final byte[][] MONTH_OF_DAY_OF_YEAR = createMonthOfDayOfYear();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The shared table from {@link #DEFAULT_FROM_YEAR} to {@link #DEFAULT_TO_YEAR}.<br>
+	 * It is declared after the tables of the months, because they are initialised in the order of the declaration.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final CalendarTable DEFAULT_TABLE = new CalendarTable(DEFAULT_FROM_YEAR, DEFAULT_TO_YEAR);
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The first and the last years of the table.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int fromYear;
+	private final int toYear;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The epoch day of January 1 of each year from the first year to the year after the last year.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int[] yearStarts;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The packed facts of each month from January of the first year.<br>
+	 * The day of week of the first day minus 1 is in the bits from 2, and the length of the month minus 28 is in the bits from 0.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final byte[] monthFacts;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class and compute the tables of the years.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param fromYear [i] The first year of the table
+	 * @param toYear [i] The last year of the table
+	 */
+	private CalendarTable(int fromYear, int toYear) {
+
+		final int yearCount = toYear - fromYear + 1;
+
+		this.fromYear = fromYear;
+		this.toYear = toYear;
+		this.yearStarts = new int[yearCount + 1];
+		this.monthFacts = new byte[yearCount * 12];
+
+		for (int i = 0; i <= yearCount; i++) {
+			this.yearStarts[i] = CivilCalendar.toEpochDay(fromYear + i, 1, 1);
+		}
+
+		for (int i = 0; i < yearCount; i++) {
+			for (int month = 1; month <= 12; month++) {
+
+				final int dayOfWeek = CivilCalendar.dayOfWeek(CivilCalendar.toEpochDay(fromYear + i, month, 1));
+				final int lengthOfMonth = CivilCalendar.lengthOfMonth(fromYear + i, month);
+
+				this.monthFacts[i * 12 + month - 1] = (byte) ((dayOfWeek - 1) << 2 | (lengthOfMonth - 28));
+			}
+		}
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to get the shared table from {@link #DEFAULT_FROM_YEAR} to {@link #DEFAULT_TO_YEAR}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the shared table
+	 */
+	public static CalendarTable getInstance() {
+
+		return DEFAULT_TABLE;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the range of the years.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param fromYear [i] The first year of the table
+	 * @param toYear [i] The last year of the table
+	 * @return Returns the table of the range
+	 * @throws IllegalArgumentException throws when the range is not within the range of {@link PackedDate}
+	 */
+	public static CalendarTable of(int fromYear, int toYear) {
+
+		if (fromYear < PackedDate.MIN_YEAR || fromYear > toYear || toYear > PackedDate.MAX_YEAR) {
+			throw new IllegalArgumentException(String.format("Parameter [%d, %d] is a invalid range.", fromYear, toYear));
+		}
+
+		return new CalendarTable(fromYear, toYear);
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of days in the month.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month from 1 to 12
+	 * @return Returns the number of days in the month
+	 */
+	public int lengthOfMonth(int year, int month) {
+
+		if (!this.isInRange(year)) {
+			return CivilCalendar.lengthOfMonth(year, month);
+		}
+
+		return (this.monthFacts[(year - this.fromYear) * 12 + month - 1] & 3) + 28;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the day of week of the first day of the month.<br>
+	 * The value is from {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month from 1 to 12
+	 * @return Returns the day of week of the first day of the month
+	 */
+	public int dayOfWeekOfFirstDay(int year, int month) {
+
+		if (!this.isInRange(year)) {
+			return CivilCalendar.dayOfWeek(CivilCalendar.toEpochDay(year, month, 1));
+		}
+
+		return (this.monthFacts[(year - this.fromYear) * 12 + month - 1] >>> 2) + 1;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the day of week of the date.<br>
+	 * The value is from {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month from 1 to 12
+	 * @param day [i] Value of day
+	 * @return Returns the day of week
+	 */
+	public int dayOfWeek(int year, int month, int day) {
+
+		if (!this.isInRange(year)) {
+			return CivilCalendar.dayOfWeek(CivilCalendar.toEpochDay(year, month, day));
+		}
+
+		return ((this.monthFacts[(year - this.fromYear) * 12 + month - 1] >>> 2) + day - 1) % 7 + 1;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the day of year of the date from 1.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month from 1 to 12
+	 * @param day [i] Value of day
+	 * @return Returns the day of year
+	 */
+	public int dayOfYear(int year, int month, int day) {
+
+		final int leap = this.isLeapYear(year) ? 1 : 0;
+
+		return DAYS_BEFORE_MONTH[leap][month - 1] + day;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the year is a leap year or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns {@code true} if the year is a leap year, or {@code false}
+	 */
+	public boolean isLeapYear(int year) {
+
+		if (!this.isInRange(year)) {
+			return CivilCalendar.isLeapYear(year);
+		}
+
+		final int index = year - this.fromYear;
+
+		return this.yearStarts[index + 1] - this.yearStarts[index] == 366;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the date to the epoch day.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month from 1 to 12
+	 * @param day [i] Value of day
+	 * @return Returns the number of days from 1970-01-01
+	 */
+	public int toEpochDay(int year, int month, int day) {
+
+		if (!this.isInRange(year)) {
+			return CivilCalendar.toEpochDay(year, month, day);
+		}
+
+		final int index = year - this.fromYear;
+		final int leap = this.yearStarts[index + 1] - this.yearStarts[index] - 365;
+
+		return this.yearStarts[index] + DAYS_BEFORE_MONTH[leap][month - 1] + day - 1;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the packed date to the epoch day.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the number of days from 1970-01-01
+	 */
+	public int toEpochDay(int packedDate) {
+
+		return this.toEpochDay(PackedDate.getYear(packedDate), PackedDate.getMonth(packedDate), PackedDate.getDay(packedDate));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the epoch day to the date in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param epochDay [i] Number of days from 1970-01-01
+	 * @return Returns the date in yyyyMMdd form
+	 */
+	public int toPackedDate(int epochDay) {
+
+		if (epochDay < this.yearStarts[0] || epochDay >= this.yearStarts[this.yearStarts.length - 1]) {
+			return CivilCalendar.toPackedDate(epochDay);
+		}
+
+		// the estimated index is the exact index or the next one, because a year has 365 or 366 days
+		int index = (int) ((epochDay - this.yearStarts[0]) * 400L / 146097L);
+
+		if (epochDay < this.yearStarts[index]) {
+			index--;
+		} else if (epochDay >= this.yearStarts[index + 1]) {
+			index++;
+		}
+
+		final int dayOfYear = epochDay - this.yearStarts[index];
+		final int leap = this.yearStarts[index + 1] - this.yearStarts[index] - 365;
+		final int month = MONTH_OF_DAY_OF_YEAR[leap][dayOfYear];
+
+		return (this.fromYear + index) * 10000 + month * 100 + dayOfYear - DAYS_BEFORE_MONTH[leap][month - 1] + 1;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the first year of the table.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the first year
+	 */
+	public int getFromYear() {
+
+		return this.fromYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the last year of the table.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the last year
+	 */
+	public int getToYear() {
+
+		return this.toYear;
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the year is in the table or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns {@code true} if the year is in the table, or {@code false}
+	 */
+	private boolean isInRange(int year) {
+
+		return year >= this.fromYear && year <= this.toYear;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the table of the number of days before the first day of each month.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the table indexed by 1 for the leap year or 0 and the month from 0 to 12
+	 */
+	private static short[][] createDaysBeforeMonth() {
+
+		final short[][] daysBeforeMonth = new short[2][13];
+
+		for (int leap = 0; leap < 2; leap++) {
+			// 2000 is a leap year and 2001 is not
+			final int year = leap == 1 ? 2000 : 2001;
+
+			for (int month = 1; month <= 12; month++) {
+				daysBeforeMonth[leap][month] = (short) (daysBeforeMonth[leap][month - 1] + CivilCalendar.lengthOfMonth(year, month));
+			}
+		}
+
+		return daysBeforeMonth;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the table of the month of each day of year.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the table indexed by 1 for the leap year or 0 and the day of year from 0
+	 */
+	private static byte[][] createMonthOfDayOfYear() {
+
+		final byte[][] monthOfDayOfYear = new byte[2][366];
+
+		for (int leap = 0; leap < 2; leap++) {
+			for (int month = 1; month <= 12; month++) {
+				for (int i = DAYS_BEFORE_MONTH[leap][month - 1]; i < DAYS_BEFORE_MONTH[leap][month]; i++) {
+					monthOfDayOfYear[leap][i] = (byte) month;
+				}
+			}
+		}
+
+		return monthOfDayOfYear;
+	}
+}
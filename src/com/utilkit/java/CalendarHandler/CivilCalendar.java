@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Calendar;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to provide the arithmetic of the civil calendar with only integers.<br>
+ * The date is represented by the year, month and day, or by the epoch day which is the number of days from 1970-01-01.<br>
+ * No object is created and neither {@link Calendar} nor the time zone is used, so all functions are thread-safe.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * This class follows the proleptic Gregorian calendar.<br>
+ * {@link Calendar} follows the Julian calendar before 1582-10-15, so the results for the dates before it are different from {@link Calendar}.<br>
+ * The dates returned in yyyyMMdd form are assumed to be within the year 0 to 9999.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public final class CivilCalendar {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of days in a 400 years cycle of the Gregorian calendar.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int DAYS_PER_CYCLE = 146097;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of days from 0000-03-01 to 1970-01-01.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int DAYS_0000_TO_1970 = 719468;
+
+	private CivilCalendar() {}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the year is a leap year or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns {@code true} if the year is a leap year, or {@code false}
+	 */
+	public static boolean isLeapYear(int year) {
+
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of days in the month.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month from 1 to 12
+	 * @return Returns the number of days in the month
+	 */
+	public static int lengthOfMonth(int year, int month) {
+
+		if (month == 2) {
+			return isLeapYear(year) ? 29 : 28;
+		}
+
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the date exists or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @return Returns {@code true} if the date exists, or {@code false}
+	 */
+	public static boolean isValidDate(int year, int month, int day) {
+
+		return month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the date to the epoch day.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month from 1 to 12
+	 * @param day [i] Value of day
+	 * @return Returns the number of days from 1970-01-01
+	 */
+	public static int toEpochDay(int year, int month, int day) {
+
+		// the year is started from March so that the leap day is the last day of the year
+		final int y = month <= 2 ? year - 1 : year;
+		final int era = (y >= 0 ? y : y - 399) / 400;
+		final int yearOfEra = y - era * 400;
+		final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+		return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the epoch day to the date in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param epochDay [i] Number of days from 1970-01-01
+	 * @return Returns the date in yyyyMMdd form
+	 */
+	public static int toPackedDate(int epochDay) {
+
+		final int z = epochDay + DAYS_0000_TO_1970;
+		final int era = (z >= 0 ? z : z - (DAYS_PER_CYCLE - 1)) / DAYS_PER_CYCLE;
+		final int dayOfEra = z - era * DAYS_PER_CYCLE;
+		final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_CYCLE - 1)) / 365;
+		final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+		final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+		final int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+		return year * 10000 + month * 100 + day;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the day of week of the epoch day.<br>
+	 * The value follows the constant of the calendar class, so it is from {@link Calendar#SUNDAY} to {@link Calendar#SATURDAY}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param epochDay [i] Number of days from 1970-01-01
+	 * @return Returns the day of week
+	 */
+	public static int dayOfWeek(int epochDay) {
+
+		// 1970-01-01 is Thursday
+		return Math.floorMod(epochDay + 4, 7) + 1;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Add the years to the date and return it in yyyyMMdd form.<br>
+	 * As with {@code Calendar.add(Calendar.YEAR, amount)}, the day is adjusted to the last day of the month if it does not exist.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @param amount [i] Increase / Decrease in year
+	 * @return Returns the added date in yyyyMMdd form
+	 */
+	public static int plusYears(int year, int month, int day, int amount) {
+
+		final int addedYear = year + amount;
+
+		return addedYear * 10000 + month * 100 + Math.min(day, lengthOfMonth(addedYear, month));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Add the months to the date and return it in yyyyMMdd form.<br>
+	 * As with {@code Calendar.add(Calendar.MONTH, amount)}, the day is adjusted to the last day of the month if it does not exist.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @param amount [i] Increase / Decrease in month
+	 * @return Returns the added date in yyyyMMdd form
+	 */
+	public static int plusMonths(int year, int month, int day, int amount) {
+
+		final long monthCount = year * 12L + (month - 1) + amount;
+		final int addedYear = (int) Math.floorDiv(monthCount, 12);
+		final int addedMonth = (int) Math.floorMod(monthCount, 12L) + 1;
+
+		return addedYear * 10000 + addedMonth * 100 + Math.min(day, lengthOfMonth(addedYear, addedMonth));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Add the days to the date and return it in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @param amount [i] Increase / Decrease in day
+	 * @return Returns the added date in yyyyMMdd form
+	 */
+	public static int plusDays(int year, int month, int day, int amount) {
+
+		return toPackedDate(toEpochDay(year, month, day) + amount);
+	}
+}
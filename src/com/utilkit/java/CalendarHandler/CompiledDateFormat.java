@@ -0,0 +1,1313 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.nio.ByteBuffer;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Map;
+
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to parse and format the date with the format compiled in advance.<br>
+ * All formats defined in {@link DateFormatInfo} are fixed-width layouts of digits and symbols,
+ * so each format is compiled once into the offsets of the fields and the symbols.<br>
+ * Neither the regular expression nor {@link SimpleDateFormat} is used to parse and format the date.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #of(DateFormatInfo)} to get the compiled format.<br>
+ * The compiled format is immutable and shared, so it can be used from multiple threads without locking.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * The date is parsed and formatted as the packed date in yyyyMMdd form, so it follows the proleptic Gregorian calendar.<br>
+ * The two-digit year is resolved to be within 100 years from the two-digit year start.<br>
+ * As with {@link SimpleDateFormat}, the default two-digit year start is 80 years before the date the class is loaded.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see DateFormatInfo
+ * @see PackedDate
+ */
+public final class CompiledDateFormat {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The value returned by {@link #decode(CharSequence, boolean)} when the date can not be validated by the arithmetic.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	static final int DEFERRED = -2;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The value returned by {@link #decode(CharSequence, boolean)} when the date is valid but it can not be packed in yyyyMMdd form,
+	 * such as the year after 9999.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	static final int UNPACKABLE = -3;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The last date of the Julian calendar and the first date of the Gregorian calendar in {@link Calendar}.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int LAST_JULIAN_DATE = 15821004;
+	private static final int FIRST_GREGORIAN_DATE = 15821015;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The max number of digits of the year that can be validated by the arithmetic in the legacy calendar.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int MAX_LEGACY_YEAR_DIGITS = 8;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The default two-digit year start in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int DEFAULT_TWO_DIGIT_YEAR_START = getDefaultTwoDigitYearStart();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The registry of the compiled formats with the default two-digit year start.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final Map<DateFormatInfo, CompiledDateFormat> REGISTRY = createRegistry();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The ordinal of the first date format information of the same pattern, indexed by the ordinal of {@link DateFormatInfo}.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int[] PATTERN_ORDINALS = createPatternOrdinals();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The date format information compiled into this instance.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final DateFormatInfo dateFormatInfo;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The template of the formatted date.<br>
+	 * The symbols are stored at their positions, and the positions of the fields are filled when formatting.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final char[] template;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The positions of the symbols in the formatted date.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int[] symbolOffsets;
+
+	private final int yearOffset;
+	private final int yearWidth;
+	private final int monthOffset;
+	private final int dayOffset;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Whether the year of four digits is not followed by other field.<br>
+	 * Such a year can have more than 4 digits in {@link SimpleDateFormat}.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final boolean isYearOpenEnded;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The date in yyyyMMdd form from which the two-digit year is resolved.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int twoDigitYearStart;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to compile the format of the date format information.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information to be compiled
+	 * @param twoDigitYearStart [i] The two-digit year start in yyyyMMdd form
+	 */
+	private CompiledDateFormat(DateFormatInfo dateFormatInfo, int twoDigitYearStart) {
+
+		final String pattern = dateFormatInfo.getFormat();
+		final int length = pattern.length();
+		final char[] template = new char[length];
+		final int[] symbolOffsets = new int[length];
+
+		int symbolCount = 0;
+		int yearOffset = -1;
+		int yearWidth = 0;
+		int monthOffset = -1;
+		int dayOffset = -1;
+
+		for (int i = 0; i < length;) {
+
+			final char letter = pattern.charAt(i);
+			int count = 1;
+
+			while (i + count < length && pattern.charAt(i + count) == letter) {
+				count++;
+			}
+
+			if (letter == 'y') {
+				yearOffset = i;
+				yearWidth = count;
+			} else if (letter == 'M') {
+				monthOffset = i;
+			} else if (letter == 'd') {
+				dayOffset = i;
+			} else {
+				for (int j = i; j < i + count; j++) {
+					template[j] = letter;
+					symbolOffsets[symbolCount++] = j;
+				}
+			}
+
+			i += count;
+		}
+
+		this.dateFormatInfo = dateFormatInfo;
+		this.template = template;
+		this.symbolOffsets = Arrays.copyOf(symbolOffsets, symbolCount);
+		this.yearOffset = yearOffset;
+		this.yearWidth = yearWidth;
+		this.monthOffset = monthOffset;
+		this.dayOffset = dayOffset;
+		this.isYearOpenEnded = yearWidth == 4 && !isPatternLetter(pattern, yearOffset + yearWidth);
+		this.twoDigitYearStart = twoDigitYearStart;
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the compiled format of the date format information.<br>
+	 * The compiled format is created only once for each date format information.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the compiled format
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static CompiledDateFormat of(DateFormatInfo dateFormatInfo) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		return REGISTRY.get(dateFormatInfo);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Compile the format of the date format information with the explicit two-digit year start.<br>
+	 * The two-digit year is resolved to be after the two-digit year start and within 100 years from it.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.AMERICA, 19500101);</strong><br>
+	 * <strong>compiledDateFormat.parse("02-16-49");</strong><br>
+	 * <strong>then 20490216</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information
+	 * @param twoDigitYearStart [i] The two-digit year start in yyyyMMdd form
+	 * @return Returns the compiled format
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static CompiledDateFormat of(DateFormatInfo dateFormatInfo, int twoDigitYearStart) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (!PackedDate.isValid(twoDigitYearStart)) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", twoDigitYearStart));
+		}
+
+		return new CompiledDateFormat(dateFormatInfo, twoDigitYearStart);
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the date and return it as the packed date in yyyyMMdd form.<br>
+	 * The date is accepted only if it is the same as the string formatted by this instance.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.FINLAND);</strong><br>
+	 * <strong>compiledDateFormat.parse("16.02.2019");</strong><br>
+	 * <strong>then 20190216</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns the packed date, or {@link PackedDate#INVALID}
+	 */
+	public int parse(CharSequence date) {
+
+		final int packedDate = this.decode(date, false);
+
+		return packedDate < 0 ? PackedDate.INVALID : packedDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate the date and return the status with the reason and the position of the first character that failed.<br>
+	 * The date is valid if and only if {@link #parse(CharSequence)} returns the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * Neither the exception is thrown nor the object is created even if the date is not valid.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.FINLAND);</strong><br>
+	 * <strong>compiledDateFormat.validate("16.13.2019");</strong><br>
+	 * <strong>then the status of {@link ValidationStatus#MONTH} at 3</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns {@link ValidationStatus#VALID}, or the status of the invalid date
+	 *
+	 * @see ValidationStatus
+	 */
+	public int validate(CharSequence date) {
+
+		final int packedDate = this.decode(date, false);
+
+		return packedDate < 0 ? packedDate : ValidationStatus.VALID;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the date in the region of the character sequence and return it as the packed date in yyyyMMdd form.<br>
+	 * The date is read in place, so the date embedded in the larger record can be parsed without creating the substring.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.FINLAND);</strong><br>
+	 * <strong>compiledDateFormat.parse("id=1,date=16.02.2019", 10, 20);</strong><br>
+	 * <strong>then 20190216</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] The character sequence containing the date
+	 * @param start [i] The index of the first character of the date, inclusive
+	 * @param end [i] The index after the last character of the date, exclusive
+	 * @return Returns the packed date, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the range is not valid
+	 */
+	public int parse(CharSequence date, int start, int end) {
+
+		if (date == null) {
+			return PackedDate.INVALID;
+		}
+
+		checkRange(date.length(), start, end - start);
+
+		if (end - start != this.template.length) {
+			return PackedDate.INVALID;
+		}
+
+		for (int symbolOffset : this.symbolOffsets) {
+			if (date.charAt(start + symbolOffset) != this.template[symbolOffset]) {
+				return PackedDate.INVALID;
+			}
+		}
+
+		final int year = parseDigits(date, start + this.yearOffset, this.yearWidth);
+		final int month = parseDigits(date, start + this.monthOffset, 2);
+		final int day = parseDigits(date, start + this.dayOffset, 2);
+
+		return this.toPackedDate(year, month, day);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the date of ASCII bytes in the array and return it as the packed date in yyyyMMdd form.<br>
+	 * The bytes are read in place, so the date received from the socket or the file can be parsed without decoding it.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param bytes [i] The array containing the date
+	 * @param offset [i] The index of the first byte of the date
+	 * @param length [i] The number of the bytes of the date
+	 * @return Returns the packed date, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the range is not valid
+	 */
+	public int parse(byte[] bytes, int offset, int length) {
+
+		if (bytes == null) {
+			return PackedDate.INVALID;
+		}
+
+		checkRange(bytes.length, offset, length);
+
+		if (length != this.template.length) {
+			return PackedDate.INVALID;
+		}
+
+		for (int symbolOffset : this.symbolOffsets) {
+			if (bytes[offset + symbolOffset] != this.template[symbolOffset]) {
+				return PackedDate.INVALID;
+			}
+		}
+
+		final int year = parseDigits(bytes, offset + this.yearOffset, this.yearWidth);
+		final int month = parseDigits(bytes, offset + this.monthOffset, 2);
+		final int day = parseDigits(bytes, offset + this.dayOffset, 2);
+
+		return this.toPackedDate(year, month, day);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the date of ASCII bytes in the buffer and return it as the packed date in yyyyMMdd form.<br>
+	 * The bytes are read at the absolute index, so the position of the buffer is not changed.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param buffer [i] The buffer containing the date
+	 * @param offset [i] The index of the first byte of the date
+	 * @param length [i] The number of the bytes of the date
+	 * @return Returns the packed date, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the range is not within the limit of the buffer
+	 */
+	public int parse(ByteBuffer buffer, int offset, int length) {
+
+		if (buffer == null) {
+			return PackedDate.INVALID;
+		}
+
+		checkRange(buffer.limit(), offset, length);
+
+		if (length != this.template.length) {
+			return PackedDate.INVALID;
+		}
+
+		for (int symbolOffset : this.symbolOffsets) {
+			if (buffer.get(offset + symbolOffset) != this.template[symbolOffset]) {
+				return PackedDate.INVALID;
+			}
+		}
+
+		final int year = parseDigits(buffer, offset + this.yearOffset, this.yearWidth);
+		final int month = parseDigits(buffer, offset + this.monthOffset, 2);
+		final int day = parseDigits(buffer, offset + this.dayOffset, 2);
+
+		return this.toPackedDate(year, month, day);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format the packed date in yyyyMMdd form.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, empty string will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.FINLAND);</strong><br>
+	 * <strong>compiledDateFormat.format(20190216);</strong><br>
+	 * <strong>then "16.02.2019"</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns formatted date
+	 */
+	public String format(int packedDate) {
+
+		if (!PackedDate.isValid(packedDate)) {
+			return "";
+		}
+
+		final char[] formattedDate = this.template.clone();
+
+		putDigits(formattedDate, this.yearOffset, this.yearWidth, PackedDate.getYear(packedDate));
+		putDigits(formattedDate, this.monthOffset, 2, PackedDate.getMonth(packedDate));
+		putDigits(formattedDate, this.dayOffset, 2, PackedDate.getDay(packedDate));
+
+		return new String(formattedDate);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format the packed date in yyyyMMdd form into the array as ASCII bytes.<br>
+	 * The bytes are written in place, so the date can be written into the record without creating the string.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, nothing is written and {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @param bytes [o] The array to write the date
+	 * @param offset [i] The index to write the first byte of the date
+	 * @return Returns the index after the last byte of the date, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the date does not fit in the array
+	 */
+	public int formatTo(int packedDate, byte[] bytes, int offset) {
+
+		if (bytes == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkRange(bytes.length, offset, this.template.length);
+
+		if (!PackedDate.isValid(packedDate)) {
+			return PackedDate.INVALID;
+		}
+
+		for (int symbolOffset : this.symbolOffsets) {
+			bytes[offset + symbolOffset] = (byte) this.template[symbolOffset];
+		}
+
+		putDigits(bytes, offset + this.yearOffset, this.yearWidth, PackedDate.getYear(packedDate));
+		putDigits(bytes, offset + this.monthOffset, 2, PackedDate.getMonth(packedDate));
+		putDigits(bytes, offset + this.dayOffset, 2, PackedDate.getDay(packedDate));
+
+		return offset + this.template.length;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format the packed date in yyyyMMdd form into the buffer as ASCII bytes.<br>
+	 * The bytes are written at the absolute index, so the position of the buffer is not changed.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, nothing is written and {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @param buffer [o] The buffer to write the date
+	 * @param offset [i] The index to write the first byte of the date
+	 * @return Returns the index after the last byte of the date, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the date does not fit in the limit of the buffer
+	 */
+	public int formatTo(int packedDate, ByteBuffer buffer, int offset) {
+
+		if (buffer == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkRange(buffer.limit(), offset, this.template.length);
+
+		if (!PackedDate.isValid(packedDate)) {
+			return PackedDate.INVALID;
+		}
+
+		for (int symbolOffset : this.symbolOffsets) {
+			buffer.put(offset + symbolOffset, (byte) this.template[symbolOffset]);
+		}
+
+		putDigits(buffer, offset + this.yearOffset, this.yearWidth, PackedDate.getYear(packedDate));
+		putDigits(buffer, offset + this.monthOffset, 2, PackedDate.getMonth(packedDate));
+		putDigits(buffer, offset + this.dayOffset, 2, PackedDate.getDay(packedDate));
+
+		return offset + this.template.length;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format the packed date in yyyyMMdd form into the builder at the offset.<br>
+	 * The characters from the offset are overwritten, and the builder is extended if the date exceeds its length.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, nothing is written and {@link PackedDate#INVALID} will be returned.<br>
+	 * To append the date, pass the length of the builder as the offset.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>CompiledDateFormat compiledDateFormat = CompiledDateFormat.of(DateFormatInfo.FINLAND);</strong><br>
+	 * <strong>StringBuilder builder = new StringBuilder("date=");</strong><br>
+	 * <strong>compiledDateFormat.formatTo(20190216, builder, builder.length());</strong><br>
+	 * <strong>then 15, and the builder is "date=16.02.2019"</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @param builder [o] The builder to write the date
+	 * @param offset [i] The index to write the first character of the date
+	 * @return Returns the index after the last character of the date, or {@link PackedDate#INVALID}
+	 * @throws IllegalArgumentException throws when the offset is out of the builder
+	 */
+	public int formatTo(int packedDate, StringBuilder builder, int offset) {
+
+		if (builder == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		checkRange(builder.length(), offset, 0);
+
+		if (!PackedDate.isValid(packedDate)) {
+			return PackedDate.INVALID;
+		}
+
+		final int end = offset + this.template.length;
+
+		if (builder.length() < end) {
+			builder.setLength(end);
+		}
+
+		for (int symbolOffset : this.symbolOffsets) {
+			builder.setCharAt(offset + symbolOffset, this.template[symbolOffset]);
+		}
+
+		putDigits(builder, offset + this.yearOffset, this.yearWidth, PackedDate.getYear(packedDate));
+		putDigits(builder, offset + this.monthOffset, 2, PackedDate.getMonth(packedDate));
+		putDigits(builder, offset + this.dayOffset, 2, PackedDate.getDay(packedDate));
+
+		return end;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the date format information compiled into this instance.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the date format information
+	 */
+	public DateFormatInfo getDateFormatInfo() {
+
+		return this.dateFormatInfo;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the length of the formatted date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the length of the formatted date
+	 */
+	public int getLength() {
+
+		return this.template.length;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the two-digit year start in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the two-digit year start
+	 */
+	public int getTwoDigitYearStart() {
+
+		return this.twoDigitYearStart;
+	}
+
+	// ================= package-private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the index of the year in the formatted date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the index of the year
+	 */
+	int getYearOffset() {
+
+		return this.yearOffset;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Decode the date with the compiled offsets and return it as the packed date in yyyyMMdd form.<br>
+	 * The characters are checked from the head of the date, so the status of the invalid date points at the first character that failed.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the legacy calendar is specified, the date is validated in the same way as {@link SimpleDateFormat} of {@link Locale#ROOT} with {@link GregorianCalendar}.<br>
+	 * The dates before the Gregorian cutover follow the Julian calendar, the dates skipped by the cutover are not valid,
+	 * and the year not followed by other field can have more than 4 digits.<br>
+	 * The valid date after 9999 is returned as {@link #UNPACKABLE},
+	 * and only the year of more than 8 digits is returned as {@link #DEFERRED} because it can exceed the range of {@link Calendar}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @param isLegacyCalendar [i] Whether to validate the date in the same way as {@link SimpleDateFormat} with {@link GregorianCalendar}
+	 * @return Returns the packed date, the status of {@link ValidationStatus}, {@link #UNPACKABLE} or {@link #DEFERRED}
+	 */
+	int decode(CharSequence date, boolean isLegacyCalendar) {
+
+		if (date == null) {
+			return ValidationStatus.of(ValidationStatus.NULL, 0);
+		}
+
+		final int extraDigits = isLegacyCalendar ? this.countExtraYearDigits(date) : 0;
+		final int expectedLength = this.template.length + extraDigits;
+		final int checkedLength = Math.min(date.length(), expectedLength);
+		final int yearEnd = this.yearOffset + this.yearWidth;
+
+		for (int i = 0; i < checkedLength; i++) {
+
+			final char symbol = i < yearEnd ? this.template[i] : i < yearEnd + extraDigits ? 0 : this.template[i - extraDigits];
+			final char c = date.charAt(i);
+
+			if (symbol != 0 && c != symbol) {
+				return ValidationStatus.of(ValidationStatus.SYMBOL, i);
+			}
+
+			if (symbol == 0 && (c < '0' || c > '9')) {
+				return ValidationStatus.of(ValidationStatus.DIGIT, i);
+			}
+		}
+
+		if (date.length() != expectedLength) {
+			return ValidationStatus.of(ValidationStatus.LENGTH, checkedLength);
+		}
+
+		final int yearWidth = this.yearWidth + extraDigits;
+
+		if (yearWidth > MAX_LEGACY_YEAR_DIGITS) {
+			return DEFERRED;
+		}
+
+		if (extraDigits > 0 && date.charAt(this.yearOffset) == '0') {
+			// the year of more than 4 digits is formatted without leading zeros
+			return ValidationStatus.of(ValidationStatus.YEAR, this.yearOffset);
+		}
+
+		final int monthOffset = this.monthOffset < this.yearOffset ? this.monthOffset : this.monthOffset + extraDigits;
+		final int dayOffset = this.dayOffset < this.yearOffset ? this.dayOffset : this.dayOffset + extraDigits;
+		final int year = parseDigits(date, this.yearOffset, yearWidth);
+		final int month = parseDigits(date, monthOffset, 2);
+		final int day = parseDigits(date, dayOffset, 2);
+
+		if (month < 1 || month > 12) {
+			return ValidationStatus.of(ValidationStatus.MONTH, monthOffset);
+		}
+
+		final int resolvedYear = this.yearWidth == 2 ? this.resolveTwoDigitYear(year, month, day) : year;
+
+		if (resolvedYear < PackedDate.MIN_YEAR) {
+			return ValidationStatus.of(ValidationStatus.YEAR, this.yearOffset);
+		}
+
+		if (day < 1 || day > lengthOfMonth(resolvedYear, month, isLegacyCalendar)
+				|| isLegacyCalendar && isSkippedByCutover(resolvedYear * 10000L + month * 100 + day)) {
+			return ValidationStatus.of(ValidationStatus.DAY, dayOffset);
+		}
+
+		if (resolvedYear > PackedDate.MAX_YEAR) {
+			return UNPACKABLE;
+		}
+
+		return resolvedYear * 10000 + month * 100 + day;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate the fields parsed from the date of the exact length and return it as the packed date in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year as it is written, or -1 if it is not digits
+	 * @param month [i] Value of month, or -1 if it is not digits
+	 * @param day [i] Value of day, or -1 if it is not digits
+	 * @return Returns the packed date, or {@link PackedDate#INVALID}
+	 */
+	int toPackedDate(int year, int month, int day) {
+
+		if (year < 0 || month < 1 || month > 12 || day < 1) {
+			return PackedDate.INVALID;
+		}
+
+		final int resolvedYear = this.yearWidth == 2 ? this.resolveTwoDigitYear(year, month, day) : year;
+
+		if (resolvedYear < PackedDate.MIN_YEAR || day > CalendarTable.getInstance().lengthOfMonth(resolvedYear, month)) {
+			return PackedDate.INVALID;
+		}
+
+		return resolvedYear * 10000 + month * 100 + day;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the ordinal shared by the date format information of the same pattern.<br>
+	 * Some formats such as {@link DateFormatInfo#CANADA}, {@link DateFormatInfo#ENGLAND} and {@link DateFormatInfo#ITALY} have the same pattern,
+	 * and {@link CalendarHandler} resolves the pattern to the first of them, so the shared state of the format is indexed by this ordinal.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the ordinal of the first date format information of the same pattern
+	 */
+	static int patternOrdinalOf(DateFormatInfo dateFormatInfo) {
+
+		return PATTERN_ORDINALS[dateFormatInfo.ordinal()];
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the digits of the year more than the format.<br>
+	 * Only the year not followed by other field can have more digits, and all characters added to the date must be the digits of the year.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns the number of the extra digits, or 0
+	 */
+	private int countExtraYearDigits(CharSequence date) {
+
+		final int extraDigits = date.length() - this.template.length;
+
+		if (!this.isYearOpenEnded || extraDigits <= 0 || countDigits(date, this.yearOffset) != this.yearWidth + extraDigits) {
+			return 0;
+		}
+
+		return extraDigits;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Resolve the two-digit year in the same way as {@link SimpleDateFormat}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param twoDigitYear [i] Value of two-digit year
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @return Returns the resolved year
+	 */
+	private int resolveTwoDigitYear(int twoDigitYear, int month, int day) {
+
+		final int startYear = PackedDate.getYear(this.twoDigitYearStart);
+		final int year = startYear / 100 * 100 + twoDigitYear;
+
+		if (year < startYear) {
+			return year + 100;
+		}
+
+		if (year == startYear && month * 100 + day <= this.twoDigitYearStart % 10000) {
+			return year + 100;
+		}
+
+		return year;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of days in the month.<br>
+	 * If the legacy calendar is specified, February before the Gregorian cutover follows the leap year of the Julian calendar.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month
+	 * @param isLegacyCalendar [i] Whether to follow the Julian calendar before the Gregorian cutover
+	 * @return Returns the number of days in the month
+	 */
+	private static int lengthOfMonth(int year, int month, boolean isLegacyCalendar) {
+
+		if (isLegacyCalendar && month == 2 && year <= PackedDate.getYear(LAST_JULIAN_DATE)) {
+			return year % 4 == 0 ? 29 : 28;
+		}
+
+		return CalendarTable.getInstance().lengthOfMonth(year, month);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the date is skipped by the Gregorian cutover or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date in yyyyMMdd form
+	 * @return Returns {@code true} if the date does not exist in the legacy calendar, or {@code false}
+	 */
+	private static boolean isSkippedByCutover(long date) {
+
+		return date > LAST_JULIAN_DATE && date < FIRST_GREGORIAN_DATE;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the registry of the compiled formats.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the registry of the compiled formats
+	 */
+	private static Map<DateFormatInfo, CompiledDateFormat> createRegistry() {
+
+		final Map<DateFormatInfo, CompiledDateFormat> registry = new EnumMap<DateFormatInfo, CompiledDateFormat>(DateFormatInfo.class);
+
+		for (DateFormatInfo e : DateFormatInfo.values()) {
+			registry.put(e, new CompiledDateFormat(e, DEFAULT_TWO_DIGIT_YEAR_START));
+		}
+
+		return Collections.unmodifiableMap(registry);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the ordinals of the first date format information of the same pattern.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the ordinals indexed by the ordinal of {@link DateFormatInfo}
+	 */
+	private static int[] createPatternOrdinals() {
+
+		final DateFormatInfo[] values = DateFormatInfo.values();
+		final int[] patternOrdinals = new int[values.length];
+
+		for (int i = 0; i < values.length; i++) {
+
+			int first = 0;
+
+			while (!values[first].getFormat().equals(values[i].getFormat())) {
+				first++;
+			}
+
+			patternOrdinals[i] = first;
+		}
+
+		return patternOrdinals;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the default two-digit year start in yyyyMMdd form.<br>
+	 * As with {@link SimpleDateFormat}, it is 80 years before the current date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the default two-digit year start
+	 */
+	private static int getDefaultTwoDigitYearStart() {
+
+		final Calendar cal = new GregorianCalendar();
+		cal.add(Calendar.YEAR, -80);
+
+		return cal.get(Calendar.YEAR) * 10000 + (cal.get(Calendar.MONTH) + 1) * 100 + cal.get(Calendar.DAY_OF_MONTH);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the character at the index of the format is a pattern letter or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param pattern [i] Value of format
+	 * @param index [i] Index of the character
+	 * @return Returns {@code true} if the character is a pattern letter, or {@code false}
+	 */
+	private static boolean isPatternLetter(String pattern, int index) {
+
+		if (index >= pattern.length()) {
+			return false;
+		}
+
+		final char letter = pattern.charAt(index);
+
+		return (letter >= 'a' && letter <= 'z') || (letter >= 'A' && letter <= 'Z');
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of consecutive digits from the index of the date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @param from [i] Index to start counting
+	 * @return Returns the number of consecutive digits
+	 */
+	private static int countDigits(CharSequence date, int from) {
+
+		int index = from;
+
+		while (index < date.length() && date.charAt(index) >= '0' && date.charAt(index) <= '9') {
+			index++;
+		}
+
+		return index - from;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the digits of the width from the index of the date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date contains a character other than the ASCII digits, -1 will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @param from [i] Index to start parsing
+	 * @param width [i] Number of digits
+	 * @return Returns the parsed value, or -1
+	 */
+	private static int parseDigits(CharSequence date, int from, int width) {
+
+		int value = 0;
+
+		for (int i = from; i < from + width; i++) {
+
+			final int digit = date.charAt(i) - '0';
+
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+
+			value = value * 10 + digit;
+		}
+
+		return value;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Put the digits of the value in the width from the index of the date.<br>
+	 * The value is padded with zeros, and only the lower digits are put if the value has more digits than the width.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [o] Formatted date
+	 * @param from [i] Index to start putting
+	 * @param width [i] Number of digits
+	 * @param value [i] Value to put
+	 */
+	private static void putDigits(char[] date, int from, int width, int value) {
+
+		int rest = value;
+
+		for (int i = from + width - 1; i >= from; i--) {
+			date[i] = (char) ('0' + rest % 10);
+			rest /= 10;
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the ASCII digits of the width from the index of the buffer.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the buffer contains a byte other than the ASCII digits, -1 will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param buffer [i] The buffer containing the date
+	 * @param from [i] Index to start parsing
+	 * @param width [i] Number of digits
+	 * @return Returns the parsed value, or -1
+	 */
+	private static int parseDigits(ByteBuffer buffer, int from, int width) {
+
+		int value = 0;
+
+		for (int i = from; i < from + width; i++) {
+
+			final int digit = buffer.get(i) - '0';
+
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+
+			value = value * 10 + digit;
+		}
+
+		return value;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Put the ASCII digits of the value in the width from the index of the buffer.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param buffer [o] The buffer to write the date
+	 * @param from [i] Index to start putting
+	 * @param width [i] Number of digits
+	 * @param value [i] Value to put
+	 */
+	private static void putDigits(ByteBuffer buffer, int from, int width, int value) {
+
+		int rest = value;
+
+		for (int i = from + width - 1; i >= from; i--) {
+			buffer.put(i, (byte) ('0' + rest % 10));
+			rest /= 10;
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Validate the range is within the length.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param size [i] The length of the array, the buffer or the character sequence
+	 * @param offset [i] The index of the first element of the range
+	 * @param length [i] The number of the elements of the range
+	 * @throws IllegalArgumentException throws when the range is not valid
+	 */
+	private static void checkRange(int size, int offset, int length) {
+
+		if (offset < 0 || length < 0 || offset > size - length) {
+			throw new IllegalArgumentException(String.format("Parameter [%d, %d] is a invalid range.", offset, length));
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Parse the ASCII digits of the width from the index of the array.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the array contains a byte other than the ASCII digits, -1 will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param bytes [i] The array containing the date
+	 * @param from [i] Index to start parsing
+	 * @param width [i] Number of digits
+	 * @return Returns the parsed value, or -1
+	 */
+	private static int parseDigits(byte[] bytes, int from, int width) {
+
+		int value = 0;
+
+		for (int i = from; i < from + width; i++) {
+
+			final int digit = bytes[i] - '0';
+
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+
+			value = value * 10 + digit;
+		}
+
+		return value;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Put the ASCII digits of the value in the width from the index of the array.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param bytes [o] The array to write the date
+	 * @param from [i] Index to start putting
+	 * @param width [i] Number of digits
+	 * @param value [i] Value to put
+	 */
+	private static void putDigits(byte[] bytes, int from, int width, int value) {
+
+		int rest = value;
+
+		for (int i = from + width - 1; i >= from; i--) {
+			bytes[i] = (byte) ('0' + rest % 10);
+			rest /= 10;
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Put the digits of the value in the width from the index of the builder.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param builder [o] The builder to write the date
+	 * @param from [i] Index to start putting
+	 * @param width [i] Number of digits
+	 * @param value [i] Value to put
+	 */
+	private static void putDigits(StringBuilder builder, int from, int width, int value) {
+
+		int rest = value;
+
+		for (int i = from + width - 1; i >= from; i--) {
+			builder.setCharAt(i, (char) ('0' + rest % 10));
+			rest /= 10;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.BitSet;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to record the batch operation of {@link CalendarBatchHandler} and {@link CalendarBatchExecutor} in Java Flight Recorder.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The default threshold is 1 ms so that the small batches called in a loop are not recorded,
+ * and it can be changed in the settings of the recording.<br>
+ * The number of the invalid dates is counted only when the event is committed.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Name("com.utilkit.java.CalendarHandler.DateBatch")
+@Label("Date Batch")
+@Category({ "UtilKit", "Calendar Handler" })
+@Description("A batch operation over a column of dates")
+@Threshold("1 ms")
+final class DateBatchEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Format")
+	String format;
+
+	@Label("Size")
+	@Description("The number of the dates in the batch")
+	int size;
+
+	@Label("Invalid Count")
+	@Description("The number of the invalid dates in the batch")
+	int invalidCount;
+
+	@Label("Parallel")
+	@Description("Whether the batch was split into chunks on the fork/join pool")
+	boolean parallel;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * End the event, and commit it with the fields if it should be committed.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param operation [i] The name of the batch operation
+	 * @param dateFormatInfo [i] The date format information, or null if the operation does not use the format
+	 * @param size [i] The number of the dates in the batch
+	 * @param invalidWords [i] The words of the bit set of the invalid indexes
+	 * @param isParallel [i] Whether the batch was split into chunks
+	 */
+	void end(String operation, DateFormatInfo dateFormatInfo, int size, long[] invalidWords, boolean isParallel) {
+
+		this.end();
+
+		if (!this.shouldCommit()) {
+			return;
+		}
+
+		this.operation = operation;
+		this.format = dateFormatInfo == null ? null : dateFormatInfo.name();
+		this.size = size;
+		this.invalidCount = BitSet.valueOf(invalidWords).cardinality();
+		this.parallel = isParallel;
+		this.commit();
+	}
+}
@@ -0,0 +1,929 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to rewrite the date column of the large delimited text file from a date format to another.<br>
+ * The input file is mapped into the memory by the window of the lines, and the dates are parsed and formatted
+ * as the bytes without creating any string, so the memory used is bounded regardless of the size of the file.<br>
+ * The large file is split into the segments on the line boundaries, and the segments are transcoded in parallel.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #of(DateFormatInfo, DateFormatInfo, char, int)} to initialise the transcoder.<br>
+ * The instance is immutable, so it can be shared between threads.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The lines are separated by LF, and CR before LF is kept as it is.<br>
+ * The delimiter within the double quotes is not treated as the delimiter, and the date in the double quotes is rewritten within the quotes.<br>
+ * The line whose date cannot be parsed, such as the header line, is written as it is and counted as invalid.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * The file must be in the encoding compatible with ASCII, such as UTF-8.<br>
+ * In the encoding such as MS932, the delimiter must not be a byte that appears in the multibyte characters, for example {@code '|'} and {@code '\\'}.<br>
+ * The quoted field containing the line separator is not supported.<br>
+ * The dates are parsed in the proleptic Gregorian calendar, so the dates before 1583 may be different from {@link CalendarHandler}.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CompiledDateFormat
+ */
+public final class DateColumnTranscoder {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The size of the window of the input file mapped at once.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final long MAPPING_SIZE = 64L << 20;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The max size of the window, which is grown when a line does not fit in the window.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final long MAX_MAPPING_SIZE = Integer.MAX_VALUE;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The min size of a segment transcoded in parallel.<br>
+	 * The file smaller than twice of it is transcoded in a segment.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final long MIN_SEGMENT_SIZE = 8L << 20;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The size of the buffer of the output reused in a segment.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The size of the buffer to search the line boundary of the segment.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int SEARCH_BUFFER_SIZE = 8 << 10;
+
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+	private static final byte QUOTE = '"';
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The format of the dates in the input file.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final CompiledDateFormat sourceFormat;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The format of the dates in the output file.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final CompiledDateFormat targetFormat;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The delimiter of the fields.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final byte delimiter;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The index of the date column from 0.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int column;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class with the formats and the date column.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param sourceFormat [i] The format of the dates in the input file
+	 * @param targetFormat [i] The format of the dates in the output file
+	 * @param delimiter [i] The delimiter of the fields
+	 * @param column [i] The index of the date column from 0
+	 */
+	private DateColumnTranscoder(CompiledDateFormat sourceFormat, CompiledDateFormat targetFormat, byte delimiter, int column) {
+
+		this.sourceFormat = sourceFormat;
+		this.targetFormat = targetFormat;
+		this.delimiter = delimiter;
+		this.column = column;
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the formats and the date column.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The delimiter must be an ASCII character other than the double quote and the line separators.<br>
+	 * For example, {@code ','} for CSV and {@code '\t'} for TSV.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param sourceFormat [i] The format of the dates in the input file
+	 * @param targetFormat [i] The format of the dates in the output file
+	 * @param delimiter [i] The delimiter of the fields
+	 * @param column [i] The index of the date column from 0
+	 * @return Returns the transcoder of the date column
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static DateColumnTranscoder of(DateFormatInfo sourceFormat, DateFormatInfo targetFormat, char delimiter, int column) {
+
+		if (sourceFormat == null || targetFormat == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (delimiter > 0x7F || delimiter == QUOTE || delimiter == CR || delimiter == LF) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", delimiter));
+		}
+
+		if (column < 0) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", column));
+		}
+
+		return new DateColumnTranscoder(CompiledDateFormat.of(sourceFormat), CompiledDateFormat.of(targetFormat), (byte) delimiter, column);
+	}
+
+	// ================= transcoding =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Transcode the date column of the input file and write it to the output file.<br>
+	 * The segments are transcoded in parallel on the common pool.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the output file exists, it is overwritten.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param input [i] The path of the input file
+	 * @param output [i] The path of the output file
+	 * @return Returns the counts of the lines
+	 * @throws IOException throws when an I/O error occurs
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see ForkJoinPool#commonPool()
+	 */
+	public Result transcode(Path input, Path output) throws IOException {
+
+		final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+		return this.transcode(input, output, pool, pool.getParallelism());
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Transcode the date column of the input file and write it to the output file.<br>
+	 * The input file is split into the segments on the line boundaries, and each segment is transcoded on the pool into a temporary file
+	 * in the directory of the output file.<br>
+	 * The temporary files are concatenated into the output file in order, so the order of the lines is kept.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the output file exists, it is overwritten.<br>
+	 * The number of the segments is reduced so that each segment is not smaller than 8 MB,
+	 * and the small file is transcoded in the calling thread without the temporary file.<br>
+	 * </DD>
+	 * <DT>Caution:</DT>
+	 * <DD>
+	 * The segments are blocked by the file I/O, so a dedicated pool is recommended for the large file.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param input [i] The path of the input file
+	 * @param output [i] The path of the output file
+	 * @param pool [i] The pool to transcode the segments
+	 * @param segmentCount [i] The max number of the segments
+	 * @return Returns the counts of the lines
+	 * @throws IOException throws when an I/O error occurs
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public Result transcode(Path input, Path output, ForkJoinPool pool, int segmentCount) throws IOException {
+
+		if (input == null || output == null || pool == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (segmentCount < 1) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", segmentCount));
+		}
+
+		if (Files.exists(output) && Files.isSameFile(input, output)) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", output));
+		}
+
+		try (FileChannel inputChannel = FileChannel.open(input, StandardOpenOption.READ);
+				FileChannel outputChannel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			final long size = inputChannel.size();
+			final int count = (int) Math.max(1L, Math.min(segmentCount, size / MIN_SEGMENT_SIZE));
+
+			if (count == 1) {
+				return new Segment(inputChannel, outputChannel).transcode(0L, size);
+			}
+
+			return this.transcodeInParallel(inputChannel, outputChannel, output, pool, splitAtLines(inputChannel, count));
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Transcode the segments in parallel into the temporary files and concatenate them into the output file.<br>
+	 * The temporary files are deleted whether the transcoding succeeds or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param inputChannel [i] The channel of the input file
+	 * @param outputChannel [i] The channel of the output file
+	 * @param output [i] The path of the output file
+	 * @param pool [i] The pool to transcode the segments
+	 * @param boundaries [i] The positions of the segments, whose length is the number of the segments plus one
+	 * @return Returns the counts of the lines
+	 * @throws IOException throws when an I/O error occurs
+	 */
+	private Result transcodeInParallel(FileChannel inputChannel, FileChannel outputChannel, Path output, ForkJoinPool pool, long[] boundaries)
+			throws IOException {
+
+		final Path directory = output.toAbsolutePath().getParent();
+		final String prefix = output.getFileName().toString();
+		final List<Path> parts = new ArrayList<>(boundaries.length - 1);
+
+		try {
+
+			final List<Callable<Result>> tasks = new ArrayList<>(boundaries.length - 1);
+
+			for (int i = 0; i < boundaries.length - 1; i++) {
+
+				final Path part = Files.createTempFile(directory, prefix, ".part");
+				final long from = boundaries[i];
+				final long to = boundaries[i + 1];
+
+				parts.add(part);
+				tasks.add(() -> {
+					try (FileChannel partChannel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+						return new Segment(inputChannel, partChannel).transcode(from, to);
+					}
+				});
+			}
+
+			final Result result = new Result();
+
+			for (Future<Result> future : pool.invokeAll(tasks)) {
+				result.add(getResult(future));
+			}
+
+			for (Path part : parts) {
+				try (FileChannel partChannel = FileChannel.open(part, StandardOpenOption.READ)) {
+					transferFully(partChannel, outputChannel);
+				}
+			}
+
+			return result;
+
+		} finally {
+			for (Path part : parts) {
+				Files.deleteIfExists(part);
+			}
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Split the input file into the segments of almost the same size on the line boundaries.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param inputChannel [i] The channel of the input file
+	 * @param count [i] The number of the segments
+	 * @return Returns the positions of the segments, whose length is the number of the segments plus one
+	 * @throws IOException throws when an I/O error occurs
+	 */
+	private static long[] splitAtLines(FileChannel inputChannel, int count) throws IOException {
+
+		final long size = inputChannel.size();
+		final long[] boundaries = new long[count + 1];
+		final ByteBuffer buffer = ByteBuffer.allocate(SEARCH_BUFFER_SIZE);
+
+		for (int i = 1; i < count; i++) {
+			// the search starts at the previous byte so that the position just after LF is kept as it is
+			final long position = Math.max(boundaries[i - 1], size / count * i - 1);
+			boundaries[i] = Math.max(boundaries[i - 1], nextLineStart(inputChannel, position, size, buffer));
+		}
+
+		boundaries[count] = size;
+
+		return boundaries;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the position of the line after the first LF from the position.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param inputChannel [i] The channel of the input file
+	 * @param position [i] The position to start searching
+	 * @param size [i] The size of the input file
+	 * @param buffer [i] The buffer to read the input file
+	 * @return Returns the position of the next line, or the size of the input file if LF is not found
+	 * @throws IOException throws when an I/O error occurs
+	 */
+	private static long nextLineStart(FileChannel inputChannel, long position, long size, ByteBuffer buffer) throws IOException {
+
+		long current = position;
+
+		while (current < size) {
+
+			buffer.clear();
+
+			final int read = inputChannel.read(buffer, current);
+
+			if (read <= 0) {
+				break;
+			}
+
+			for (int i = 0; i < read; i++) {
+				if (buffer.get(i) == LF) {
+					return current + i + 1;
+				}
+			}
+
+			current += read;
+		}
+
+		return size;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Transfer the whole content of the source channel to the target channel.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param source [i] The channel to transfer from
+	 * @param target [i] The channel to transfer to
+	 * @throws IOException throws when an I/O error occurs
+	 */
+	private static void transferFully(FileChannel source, WritableByteChannel target) throws IOException {
+
+		final long size = source.size();
+		long position = 0L;
+
+		while (position < size) {
+			position += source.transferTo(position, size - position, target);
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the result of the segment and rethrow the exception thrown in the segment.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param future [i] The future of the segment
+	 * @return Returns the counts of the lines of the segment
+	 * @throws IOException throws when an I/O error occurs in the segment
+	 */
+	private static Result getResult(Future<Result> future) throws IOException {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+
+			final Throwable cause = e.getCause();
+
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IOException(cause);
+		}
+	}
+
+	// ================= inner classes =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The counts of the lines transcoded.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @author Kato Shinya
+	 * @since 2026.10.17
+	 * @version 1.0
+	 */
+	public static final class Result {
+
+		private long lineCount = 0L;
+		private long transcodedCount = 0L;
+		private long invalidCount = 0L;
+
+		private Result() {}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the number of the lines of the input file.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns the number of the lines
+		 */
+		public long getLineCount() {
+			return this.lineCount;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the number of the lines whose date was rewritten.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns the number of the lines transcoded
+		 */
+		public long getTranscodedCount() {
+			return this.transcodedCount;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the number of the lines written as it is because the date column is missing or cannot be parsed.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns the number of the invalid lines
+		 */
+		public long getInvalidCount() {
+			return this.invalidCount;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Add the counts of the other result.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param other [i] The result to add
+		 */
+		private void add(Result other) {
+
+			this.lineCount += other.lineCount;
+			this.transcodedCount += other.transcodedCount;
+			this.invalidCount += other.invalidCount;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Result [lineCount=%d, transcodedCount=%d, invalidCount=%d]", this.lineCount, this.transcodedCount, this.invalidCount);
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The transcoding of a segment of the input file in a thread.<br>
+	 * The unchanged bytes between the dates are copied in bulk from the window to the output buffer,
+	 * and the output buffer is written to the channel when it is full.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final class Segment {
+
+		private final FileChannel inputChannel;
+		private final WritableByteChannel outputChannel;
+		private final ByteBuffer outputBuffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+		private final Result result = new Result();
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to initialise the class with the channels.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param inputChannel [i] The channel of the input file
+		 * @param outputChannel [i] The channel to write the segment
+		 */
+		private Segment(FileChannel inputChannel, WritableByteChannel outputChannel) {
+
+			this.inputChannel = inputChannel;
+			this.outputChannel = outputChannel;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Transcode the range of the input file window by window.<br>
+		 * The window ends at the last LF in it, and it is grown if a line does not fit in it.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param from [i] The position of the first byte, inclusive
+		 * @param to [i] The position of the last byte, exclusive
+		 * @return Returns the counts of the lines of the segment
+		 * @throws IOException throws when an I/O error occurs
+		 */
+		private Result transcode(long from, long to) throws IOException {
+
+			long position = from;
+			long mappingSize = MAPPING_SIZE;
+
+			while (position < to) {
+
+				final long size = Math.min(mappingSize, to - position);
+				final ByteBuffer window = this.inputChannel.map(MapMode.READ_ONLY, position, size);
+				int limit = (int) size;
+
+				if (position + size < to) {
+
+					limit = lastIndexOf(window, limit) + 1;
+
+					if (limit == 0) {
+
+						if (mappingSize >= MAX_MAPPING_SIZE) {
+							throw new IOException(String.format("The line at [%d] is too long.", position));
+						}
+
+						mappingSize = Math.min(mappingSize * 2, MAX_MAPPING_SIZE);
+						continue;
+					}
+				}
+
+				this.transcodeWindow(window, limit);
+				position += limit;
+			}
+
+			this.flush();
+
+			return this.result;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Transcode the lines in the window.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param window [i] The window of the input file
+		 * @param limit [i] The index after the last line in the window
+		 * @throws IOException throws when an I/O error occurs
+		 */
+		private void transcodeWindow(ByteBuffer window, int limit) throws IOException {
+
+			final ByteBuffer source = window.duplicate();
+			int copyFrom = 0;
+			int lineStart = 0;
+
+			while (lineStart < limit) {
+
+				final int lineEnd = indexOf(window, lineStart, limit);
+				int dateStart = findFieldStart(window, lineStart, lineEnd);
+				int packedDate = PackedDate.INVALID;
+				int dateEnd = dateStart;
+
+				if (dateStart >= 0) {
+
+					dateEnd = findFieldEnd(window, dateStart, lineEnd);
+
+					if (dateEnd == lineEnd && dateEnd > dateStart && window.get(dateEnd - 1) == CR) {
+						dateEnd--;
+					}
+
+					if (dateEnd - dateStart >= 2 && window.get(dateStart) == QUOTE && window.get(dateEnd - 1) == QUOTE) {
+						dateStart++;
+						dateEnd--;
+					}
+
+					packedDate = sourceFormat.parse(window, dateStart, dateEnd - dateStart);
+				}
+
+				this.result.lineCount++;
+
+				if (packedDate == PackedDate.INVALID) {
+					this.result.invalidCount++;
+				} else {
+					this.copy(source, copyFrom, dateStart);
+					this.write(packedDate);
+					copyFrom = dateEnd;
+					this.result.transcodedCount++;
+				}
+
+				lineStart = lineEnd + 1;
+			}
+
+			this.copy(source, copyFrom, limit);
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the index of the first byte of the date column in the line.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param window [i] The window of the input file
+		 * @param lineStart [i] The index of the first byte of the line
+		 * @param lineEnd [i] The index of LF of the line, or the limit of the window
+		 * @return Returns the index of the first byte of the date column, or -1 if the line does not have the column
+		 */
+		private int findFieldStart(ByteBuffer window, int lineStart, int lineEnd) {
+
+			if (column == 0) {
+				return lineStart;
+			}
+
+			int field = 0;
+			boolean quoted = false;
+
+			for (int i = lineStart; i < lineEnd; i++) {
+
+				final byte b = window.get(i);
+
+				if (b == QUOTE) {
+					quoted = !quoted;
+				} else if (b == delimiter && !quoted && ++field == column) {
+					return i + 1;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the index after the last byte of the field.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param window [i] The window of the input file
+		 * @param fieldStart [i] The index of the first byte of the field
+		 * @param lineEnd [i] The index of LF of the line, or the limit of the window
+		 * @return Returns the index of the delimiter after the field, or the end of the line
+		 */
+		private int findFieldEnd(ByteBuffer window, int fieldStart, int lineEnd) {
+
+			boolean quoted = false;
+
+			for (int i = fieldStart; i < lineEnd; i++) {
+
+				final byte b = window.get(i);
+
+				if (b == QUOTE) {
+					quoted = !quoted;
+				} else if (b == delimiter && !quoted) {
+					return i;
+				}
+			}
+
+			return lineEnd;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Copy the range of the window to the output buffer.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param source [i] The duplicate of the window used to copy
+		 * @param from [i] The index of the first byte, inclusive
+		 * @param to [i] The index of the last byte, exclusive
+		 * @throws IOException throws when an I/O error occurs
+		 */
+		private void copy(ByteBuffer source, int from, int to) throws IOException {
+
+			int current = from;
+
+			while (current < to) {
+
+				if (!this.outputBuffer.hasRemaining()) {
+					this.flush();
+				}
+
+				final int length = Math.min(to - current, this.outputBuffer.remaining());
+
+				// the limit is set first so that the position never exceeds the limit
+				source.limit(current + length);
+				source.position(current);
+				this.outputBuffer.put(source);
+				current += length;
+			}
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Format the date to the output buffer in the target format.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param packedDate [i] Value of date in yyyyMMdd form
+		 * @throws IOException throws when an I/O error occurs
+		 */
+		private void write(int packedDate) throws IOException {
+
+			if (this.outputBuffer.remaining() < targetFormat.getLength()) {
+				this.flush();
+			}
+
+			this.outputBuffer.position(targetFormat.formatTo(packedDate, this.outputBuffer, this.outputBuffer.position()));
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Write the output buffer to the channel and clear it.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @throws IOException throws when an I/O error occurs
+		 */
+		private void flush() throws IOException {
+
+			this.outputBuffer.flip();
+
+			while (this.outputBuffer.hasRemaining()) {
+				this.outputChannel.write(this.outputBuffer);
+			}
+
+			this.outputBuffer.clear();
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the index of the first LF from the index in the window.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param window [i] The window of the input file
+	 * @param from [i] The index to start searching
+	 * @param limit [i] The index to stop searching
+	 * @return Returns the index of LF, or the limit if LF is not found
+	 */
+	private static int indexOf(ByteBuffer window, int from, int limit) {
+
+		for (int i = from; i < limit; i++) {
+			if (window.get(i) == LF) {
+				return i;
+			}
+		}
+
+		return limit;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the index of the last LF before the limit in the window.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param window [i] The window of the input file
+	 * @param limit [i] The index to start searching backward, exclusive
+	 * @return Returns the index of LF, or -1 if LF is not found
+	 */
+	private static int lastIndexOf(ByteBuffer window, int limit) {
+
+		for (int i = limit - 1; i >= 0; i--) {
+			if (window.get(i) == LF) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+}
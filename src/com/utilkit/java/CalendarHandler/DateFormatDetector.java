@@ -0,0 +1,708 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to detect the format of the date from all formats defined in {@link DateFormatInfo}.<br>
+ * The formats are compiled in advance into the layouts of digits and symbols, and the formats of the same layout share one layout.<br>
+ * The date is read only once from the head, and each character narrows the set of the layouts by the table of the characters allowed at its position,
+ * while the digits are accumulated into one number.<br>
+ * When the date is read to the end, the fields of each remaining layout are taken from the accumulated number and validated.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use this class instead of calling {@link CalendarHandler#applyPattern(String)} and {@link CalendarHandler#isEffectiveDate(String)} for each format.<br>
+ * The detector is immutable and shared, so it can be used from multiple threads without locking.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The date is validated in the same way as {@link CompiledDateFormat#parse(CharSequence)}.<br>
+ * Some formats have the same layout, such as {@link DateFormatInfo#CANADA}, {@link DateFormatInfo#ENGLAND} and {@link DateFormatInfo#ITALY},
+ * so all of them are returned as the candidates with the same parsed value.<br>
+ * Some layouts differ only in the order of the fields, such as {@link DateFormatInfo#AMERICA} and {@link DateFormatInfo#NORWAY},
+ * so each of them is returned as the candidate only if the date is valid in it, with its own parsed value.<br>
+ * </DD>
+ * <DT>Example:</DT>
+ * <DD>
+ * <strong>DateFormatDetector.getInstance().detect("16/02/19").getCandidates();</strong><br>
+ * <strong>then [CANADA, ENGLAND, ITALY]</strong><br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see DateFormatInfo
+ * @see CompiledDateFormat
+ */
+public final class DateFormatDetector {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This class was created to represent the result of the detection.<br>
+	 * The instance is immutable.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @author Kato Shinya
+	 * @since 2026.10.17
+	 * @version 1.0
+	 */
+	public static final class Detection {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The layouts of the detector.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		private final Layout[] layouts;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The bits of the indexes of the layouts in which the date is valid.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		private final int matchedLayouts;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The packed dates parsed in the layouts, indexed by the index of the layout.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		private final int[] packedDates;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to initialise the result of the detection.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param layouts [i] The layouts of the detector
+		 * @param matchedLayouts [i] The bits of the indexes of the matched layouts
+		 * @param packedDates [i] The packed dates parsed in the layouts
+		 */
+		private Detection(Layout[] layouts, int matchedLayouts, int[] packedDates) {
+			this.layouts = layouts;
+			this.matchedLayouts = matchedLayouts;
+			this.packedDates = packedDates;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the formats in which the date is valid.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns the unmodifiable set of the formats, or the empty set if no format matches
+		 */
+		public Set<DateFormatInfo> getCandidates() {
+
+			final EnumSet<DateFormatInfo> candidates = EnumSet.noneOf(DateFormatInfo.class);
+
+			for (int bits = this.matchedLayouts; bits != 0; bits &= bits - 1) {
+				candidates.addAll(this.layouts[Integer.numberOfTrailingZeros(bits)].dateFormatInfos);
+			}
+
+			return Collections.unmodifiableSet(candidates);
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return boolean any format matches the date or not.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns {@code true} if the date is valid in any format, or {@code false}
+		 */
+		public boolean isDetected() {
+
+			return this.matchedLayouts != 0;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return boolean more than one format matches the date or not.<br>
+		 * The formats of the same layout are ambiguous even if the parsed value is the same.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns {@code true} if the date is valid in more than one format, or {@code false}
+		 */
+		public boolean isAmbiguous() {
+
+			return (this.matchedLayouts & this.matchedLayouts - 1) != 0
+					|| this.matchedLayouts != 0 && this.layouts[Integer.numberOfTrailingZeros(this.matchedLayouts)].dateFormatInfos.size() > 1;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the format in which the date is valid.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns the format if exactly one format matches the date, or {@code null}
+		 *
+		 * @see #getCandidates()
+		 */
+		public DateFormatInfo getDateFormatInfo() {
+
+			if (!this.isDetected() || this.isAmbiguous()) {
+				return null;
+			}
+
+			return this.layouts[Integer.numberOfTrailingZeros(this.matchedLayouts)].dateFormatInfos.iterator().next();
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the parsed value of the date.<br>
+		 * The value is returned only if all candidates parse the date into the same value.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @return Returns the packed date in yyyyMMdd form, or {@link PackedDate#INVALID}
+		 *
+		 * @see #getPackedDate(DateFormatInfo)
+		 */
+		public int getPackedDate() {
+
+			int packedDate = PackedDate.INVALID;
+
+			for (int bits = this.matchedLayouts; bits != 0; bits &= bits - 1) {
+
+				final int value = this.packedDates[Integer.numberOfTrailingZeros(bits)];
+
+				if (packedDate != PackedDate.INVALID && packedDate != value) {
+					return PackedDate.INVALID;
+				}
+
+				packedDate = value;
+			}
+
+			return packedDate;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the value of the date parsed in the format.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param dateFormatInfo [i] The format
+		 * @return Returns the packed date in yyyyMMdd form, or {@link PackedDate#INVALID} if the format is not the candidate
+		 */
+		public int getPackedDate(DateFormatInfo dateFormatInfo) {
+
+			for (int bits = this.matchedLayouts; bits != 0; bits &= bits - 1) {
+
+				final int index = Integer.numberOfTrailingZeros(bits);
+
+				if (this.layouts[index].dateFormatInfos.contains(dateFormatInfo)) {
+					return this.packedDates[index];
+				}
+			}
+
+			return PackedDate.INVALID;
+		}
+
+		@Override
+		public String toString() {
+
+			return String.format("Detection [candidates=%s, packedDate=%d]", this.getCandidates(), this.getPackedDate());
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This class was created to hold the layout compiled from the formats of the same pattern.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final class Layout {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The formats of this layout.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		private final Set<DateFormatInfo> dateFormatInfos;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The compiled format used to validate the fields.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		private final CompiledDateFormat compiledDateFormat;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The powers of ten to take the fields from the digits of the date.<br>
+		 * Each field is taken as the digits divided by the divisor modulo the power of its width.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		private final int yearDivisor;
+		private final int yearModulus;
+		private final int monthDivisor;
+		private final int dayDivisor;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to compile the layout of the pattern.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param pattern [i] The pattern of the formats
+		 * @param dateFormatInfos [i] The formats of the pattern
+		 * @param compiledDateFormat [i] The compiled format of the pattern
+		 */
+		private Layout(String pattern, Set<DateFormatInfo> dateFormatInfos, CompiledDateFormat compiledDateFormat) {
+
+			int digitCount = 0;
+
+			for (int i = 0; i < pattern.length(); i++) {
+				if (isPatternLetter(pattern.charAt(i))) {
+					digitCount++;
+				}
+			}
+
+			this.dateFormatInfos = Collections.unmodifiableSet(dateFormatInfos);
+			this.compiledDateFormat = compiledDateFormat;
+			this.yearDivisor = divisorOf(pattern, 'y', digitCount);
+			this.yearModulus = pow10(countOf(pattern, 'y'));
+			this.monthDivisor = divisorOf(pattern, 'M', digitCount);
+			this.dayDivisor = divisorOf(pattern, 'd', digitCount);
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Parse the fields from the digits of the date and return it as the packed date in yyyyMMdd form.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param digits [i] The digits of the date read as one number
+		 * @return Returns the packed date, or {@link PackedDate#INVALID}
+		 */
+		private int toPackedDate(long digits) {
+
+			final int year = (int) (digits / this.yearDivisor % this.yearModulus);
+			final int month = (int) (digits / this.monthDivisor % 100);
+			final int day = (int) (digits / this.dayDivisor % 100);
+
+			return this.compiledDateFormat.toPackedDate(year, month, day);
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the power of ten to divide the digits of the date to take the field of the letter at the lowest digits.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param pattern [i] The pattern of the formats
+		 * @param letter [i] The letter of the field
+		 * @param digitCount [i] The number of the digits in the pattern
+		 * @return Returns the divisor
+		 */
+		private static int divisorOf(String pattern, char letter, int digitCount) {
+
+			int digitIndex = 0;
+
+			for (int i = 0; i < pattern.lastIndexOf(letter); i++) {
+				if (isPatternLetter(pattern.charAt(i))) {
+					digitIndex++;
+				}
+			}
+
+			return pow10(digitCount - digitIndex - 1);
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the number of the letter in the pattern.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param pattern [i] The pattern of the formats
+		 * @param letter [i] The letter of the field
+		 * @return Returns the number of the letter
+		 */
+		private static int countOf(String pattern, char letter) {
+
+			return pattern.lastIndexOf(letter) - pattern.indexOf(letter) + 1;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the power of ten.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param exponent [i] The exponent
+		 * @return Returns the power of ten
+		 */
+		private static int pow10(int exponent) {
+
+			int value = 1;
+
+			for (int i = 0; i < exponent; i++) {
+				value *= 10;
+			}
+
+			return value;
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the characters in the table of each position.<br>
+	 * Only the ASCII characters can be the digits and the symbols of the formats.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int CHARACTER_COUNT = 128;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The maximum number of the layouts held in the bits of int.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int MAX_LAYOUT_COUNT = Integer.SIZE;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The shared detector which resolves the two-digit year with the default two-digit year start.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final DateFormatDetector DEFAULT_DETECTOR = new DateFormatDetector(0);
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The layouts compiled from all formats.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final Layout[] layouts;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The table of the layouts which allow the character at the position, indexed by the position times {@link #CHARACTER_COUNT} plus the character.<br>
+	 * Each element holds the bits of the indexes of the layouts.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int[] transitions;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The layouts of each length, indexed by the length.<br>
+	 * Each element holds the bits of the indexes of the layouts.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int[] lengthLayouts;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The result of the date which matches no format.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final Detection undetected;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to compile the layouts of all formats.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param twoDigitYearStart [i] The two-digit year start in yyyyMMdd form, or 0 to use the default
+	 */
+	private DateFormatDetector(int twoDigitYearStart) {
+
+		final List<String> patterns = new ArrayList<String>();
+		final List<Layout> layouts = new ArrayList<Layout>();
+		int maxLength = 0;
+
+		for (DateFormatInfo e : DateFormatInfo.values()) {
+
+			final String pattern = e.getFormat();
+
+			if (patterns.contains(pattern)) {
+				continue;
+			}
+
+			final EnumSet<DateFormatInfo> dateFormatInfos = EnumSet.noneOf(DateFormatInfo.class);
+
+			for (DateFormatInfo other : DateFormatInfo.values()) {
+				if (pattern.equals(other.getFormat())) {
+					dateFormatInfos.add(other);
+				}
+			}
+
+			patterns.add(pattern);
+			layouts.add(new Layout(pattern, dateFormatInfos,
+					twoDigitYearStart == 0 ? CompiledDateFormat.of(e) : CompiledDateFormat.of(e, twoDigitYearStart)));
+			maxLength = Math.max(maxLength, pattern.length());
+		}
+
+		if (layouts.size() > MAX_LAYOUT_COUNT) {
+			throw new IllegalStateException(String.format("The number of the layouts [%d] exceeds [%d].", layouts.size(), MAX_LAYOUT_COUNT));
+		}
+
+		final int[] transitions = new int[maxLength * CHARACTER_COUNT];
+		final int[] lengthLayouts = new int[maxLength + 1];
+
+		for (int index = 0; index < patterns.size(); index++) {
+
+			final String pattern = patterns.get(index);
+			final int bit = 1 << index;
+
+			for (int i = 0; i < pattern.length(); i++) {
+
+				final char letter = pattern.charAt(i);
+
+				if (isPatternLetter(letter)) {
+					for (char c = '0'; c <= '9'; c++) {
+						transitions[i * CHARACTER_COUNT + c] |= bit;
+					}
+				} else {
+					transitions[i * CHARACTER_COUNT + letter] |= bit;
+				}
+			}
+
+			lengthLayouts[pattern.length()] |= bit;
+		}
+
+		this.layouts = layouts.toArray(new Layout[layouts.size()]);
+		this.transitions = transitions;
+		this.lengthLayouts = lengthLayouts;
+		this.undetected = new Detection(this.layouts, 0, new int[this.layouts.length]);
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to get the shared detector which resolves the two-digit year with the default two-digit year start.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the shared detector
+	 *
+	 * @see CompiledDateFormat#of(DateFormatInfo)
+	 */
+	public static DateFormatDetector getInstance() {
+
+		return DEFAULT_DETECTOR;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to compile the detector with the explicit two-digit year start.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param twoDigitYearStart [i] The two-digit year start in yyyyMMdd form
+	 * @return Returns the detector
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CompiledDateFormat#of(DateFormatInfo, int)
+	 */
+	public static DateFormatDetector of(int twoDigitYearStart) {
+
+		if (!PackedDate.isValid(twoDigitYearStart)) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", twoDigitYearStart));
+		}
+
+		return new DateFormatDetector(twoDigitYearStart);
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Detect the formats in which the date is valid and parse the date in them.<br>
+	 * The date is read only once from the head, and the detection stops at the first character which no format allows.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * Neither the exception is thrown nor {@link SimpleDateFormat} is used even if the date is not valid in any format.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>DateFormatDetector.getInstance().detect("02-16-19").getDateFormatInfo();</strong><br>
+	 * <strong>then AMERICA</strong><br>
+	 * <strong>DateFormatDetector.getInstance().detect("2019-02-16").getCandidates();</strong><br>
+	 * <strong>then [HYPHEN, GERMANY, DENMARK, SWEDEN]</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @return Returns the result of the detection, which has no candidate if the date is not valid in any format
+	 */
+	public Detection detect(CharSequence date) {
+
+		if (date == null || date.length() >= this.lengthLayouts.length) {
+			return this.undetected;
+		}
+
+		final int length = date.length();
+		int state = this.lengthLayouts[length];
+		long digits = 0;
+
+		for (int i = 0; i < length && state != 0; i++) {
+
+			final char c = date.charAt(i);
+
+			if (c >= CHARACTER_COUNT) {
+				return this.undetected;
+			}
+
+			state &= this.transitions[i * CHARACTER_COUNT + c];
+
+			if (c >= '0' && c <= '9') {
+				digits = digits * 10 + (c - '0');
+			}
+		}
+
+		if (state == 0) {
+			return this.undetected;
+		}
+
+		final int[] packedDates = new int[this.layouts.length];
+		int matchedLayouts = 0;
+
+		for (int bits = state; bits != 0; bits &= bits - 1) {
+
+			final int index = Integer.numberOfTrailingZeros(bits);
+			final int packedDate = this.layouts[index].toPackedDate(digits);
+
+			if (packedDate != PackedDate.INVALID) {
+				packedDates[index] = packedDate;
+				matchedLayouts |= 1 << index;
+			}
+		}
+
+		return matchedLayouts == 0 ? this.undetected : new Detection(this.layouts, matchedLayouts, packedDates);
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the character of the format is a pattern letter or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param letter [i] The character of the format
+	 * @return Returns {@code true} if the character is the letter of the year, the month or the day, or {@code false}
+	 */
+	private static boolean isPatternLetter(char letter) {
+
+		return letter == 'y' || letter == 'M' || letter == 'd';
+	}
+}
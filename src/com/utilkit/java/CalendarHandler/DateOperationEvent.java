@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to record the single operation of {@link CalendarHandler} that took longer than the threshold in Java Flight Recorder.<br>
+ * The operations are the same as {@link CalendarHandlerMetrics.Operation}.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The default threshold is 1 ms, and it can be changed in the settings of the recording.<br>
+ * If the event is not enabled in the recording, it is not committed and costs nothing.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Name("com.utilkit.java.CalendarHandler.DateOperation")
+@Label("Date Operation")
+@Category({ "UtilKit", "Calendar Handler" })
+@Description("A date operation of CalendarHandler that took longer than the threshold")
+@Threshold("1 ms")
+final class DateOperationEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Format")
+	String format;
+
+	@Label("Outcome")
+	@Description("VALID, or INVALID if the date passed to the operation is not valid")
+	String outcome;
+}
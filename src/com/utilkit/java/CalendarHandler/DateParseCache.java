@@ -0,0 +1,562 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to memoize the dates decoded by {@link CalendarHandler} from the repeated strings.<br>
+ * The cache is bounded by the capacity, and the entries are evicted in the approximate LRU order.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #enable(DateFormatInfo, int)} to enable the cache for the format in {@link CalendarHandler}.<br>
+ * The cache is worth enabling when the same strings are decoded many times,
+ * especially with the dates decoded by {@link java.text.SimpleDateFormat} such as the dates before 1583.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The cache is set-associative: a string is cached only in the set of 8 entries selected by its hash code.<br>
+ * The entries are held in {@link AtomicReferenceArray} and replaced without locking,
+ * and the entry to be evicted is chosen in the set by the CLOCK algorithm, which gives the referenced entry a second chance.<br>
+ * The entry is immutable except for its reference bit, and the reference bit is written only when it is not set yet,
+ * so the frequent hits of the same entry do not write to the shared memory.<br>
+ * The entry may be lost when two threads replace the same entry at the same time, which only causes another miss.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CalendarHandler
+ */
+public final class DateParseCache {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The default number of the entries of the cache.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 12;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The max number of the entries of the cache.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int MAX_CAPACITY = 1 << 24;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the entries in a set.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int WAYS = 8;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The value returned when the string is not cached.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	static final int ABSENT = Integer.MIN_VALUE;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The caches enabled in {@link CalendarHandler}, indexed by {@link CompiledDateFormat#patternOrdinalOf(DateFormatInfo)}.<br>
+	 * The formats of the same pattern share one cache, because {@link CalendarHandler} can not tell them apart by the pattern.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final AtomicReferenceArray<DateParseCache> ENABLED_CACHES = new AtomicReferenceArray<>(DateFormatInfo.values().length);
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The date format information of the cached strings.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final DateFormatInfo dateFormatInfo;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The entries of all sets, the set of the index {@code i} is from {@code i * WAYS} to {@code i * WAYS + WAYS - 1}.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final AtomicReferenceArray<Entry> entries;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The mask to select the set from the hash code, the number of the sets is a power of 2.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int setMask;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The counters of the hits, the misses and the evictions.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class with the number of the sets.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information of the cached strings
+	 * @param setCount [i] The number of the sets, which is a power of 2
+	 */
+	private DateParseCache(DateFormatInfo dateFormatInfo, int setCount) {
+
+		this.dateFormatInfo = dateFormatInfo;
+		this.entries = new AtomicReferenceArray<>(setCount * WAYS);
+		this.setMask = setCount - 1;
+	}
+
+	// ================= enabling =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Enable the cache with the default capacity for the format in {@link CalendarHandler}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information to be cached
+	 * @return Returns the enabled cache
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see #DEFAULT_CAPACITY
+	 */
+	public static DateParseCache enable(DateFormatInfo dateFormatInfo) {
+
+		return enable(dateFormatInfo, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Enable the cache with the capacity for the format in {@link CalendarHandler}.<br>
+	 * The capacity is rounded up to a power of 2, and the cache replaces the cache enabled before for the format.<br>
+	 * The formats of the same pattern such as {@link DateFormatInfo#CANADA} and {@link DateFormatInfo#ENGLAND} share one cache.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The cache is used by all instances of {@link CalendarHandler} with the format,
+	 * when they decode the date by {@link CalendarHandler#isEffectiveDate(String)}, {@link CalendarHandler#setDate(String)},
+	 * {@link CalendarHandler#toPackedDate(String)} and the other methods taking the date as String type.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information to be cached
+	 * @param capacity [i] The number of the entries of the cache
+	 * @return Returns the enabled cache
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see #MAX_CAPACITY
+	 */
+	public static DateParseCache enable(DateFormatInfo dateFormatInfo, int capacity) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (capacity < 1 || capacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", capacity));
+		}
+
+		final int minSetCount = (capacity + WAYS - 1) / WAYS;
+		final int setCount = minSetCount == 1 ? 1 : Integer.highestOneBit(minSetCount - 1) << 1;
+		final DateParseCache cache = new DateParseCache(dateFormatInfo, setCount);
+
+		ENABLED_CACHES.set(CompiledDateFormat.patternOrdinalOf(dateFormatInfo), cache);
+
+		return cache;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Disable the cache for the format in {@link CalendarHandler}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information not to be cached
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static void disable(DateFormatInfo dateFormatInfo) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		ENABLED_CACHES.set(CompiledDateFormat.patternOrdinalOf(dateFormatInfo), null);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the cache enabled for the format in {@link CalendarHandler}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the cache is not enabled, {@code null} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the enabled cache, or {@code null}
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static DateParseCache getEnabled(DateFormatInfo dateFormatInfo) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		return ENABLED_CACHES.get(CompiledDateFormat.patternOrdinalOf(dateFormatInfo));
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Remove all entries of the cache.<br>
+	 * The counters are not reset.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public void clear() {
+
+		for (int i = 0; i < this.entries.length(); i++) {
+			this.entries.set(i, null);
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the date format information of the cached strings.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the date format information
+	 */
+	public DateFormatInfo getDateFormatInfo() {
+
+		return this.dateFormatInfo;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the entries of the cache.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the capacity
+	 */
+	public int getCapacity() {
+
+		return this.entries.length();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the strings found in the cache.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the cache hits
+	 */
+	public long getHitCount() {
+
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the strings not found in the cache.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the cache misses
+	 */
+	public long getMissCount() {
+
+		return this.missCount.sum();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the entries evicted to cache the other strings.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the evictions
+	 */
+	public long getEvictionCount() {
+
+		return this.evictionCount.sum();
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("DateParseCache [dateFormatInfo=%s, capacity=%d, hitCount=%d, missCount=%d, evictionCount=%d]",
+				this.dateFormatInfo, this.getCapacity(), this.getHitCount(), this.getMissCount(), this.getEvictionCount());
+	}
+
+	// ================= package-private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the value cached for the string and the lenient setting.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the string is not cached, {@link #ABSENT} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @param isLenient [i] The lenient setting used to decode the date
+	 * @return Returns the cached value, or {@link #ABSENT}
+	 */
+	int get(String date, boolean isLenient) {
+
+		final int hash = spread(date.hashCode());
+		final int base = (hash & this.setMask) * WAYS;
+
+		for (int i = base; i < base + WAYS; i++) {
+
+			final Entry entry = this.entries.get(i);
+
+			if (entry != null && entry.matches(hash, date, isLenient)) {
+
+				if (!entry.isReferenced) {
+					entry.isReferenced = true;
+				}
+
+				this.hitCount.increment();
+
+				return entry.value;
+			}
+		}
+
+		this.missCount.increment();
+
+		return ABSENT;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Cache the value for the string and the lenient setting.<br>
+	 * The value is cached in the empty entry of the set, and if the set is full, the entry is evicted by the CLOCK algorithm:
+	 * the referenced entries get the second chance by clearing the reference bit, and the first entry not referenced is replaced.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param date [i] Value of date
+	 * @param isLenient [i] The lenient setting used to decode the date
+	 * @param value [i] The value decoded from the date
+	 */
+	void put(String date, boolean isLenient, int value) {
+
+		final int hash = spread(date.hashCode());
+		final int base = (hash & this.setMask) * WAYS;
+		// the hand starts at the way selected by the other bits of the hash code so that the first way is not always evicted
+		final int start = (hash >>> 24) & (WAYS - 1);
+		final Entry newEntry = new Entry(hash, date, isLenient, value);
+
+		for (int i = base; i < base + WAYS; i++) {
+			if (this.entries.get(i) == null) {
+				this.entries.set(i, newEntry);
+				return;
+			}
+		}
+
+		for (int i = 0; i < WAYS * 2; i++) {
+
+			final int index = base + ((start + i) & (WAYS - 1));
+			final Entry entry = this.entries.get(index);
+
+			// the set may be emptied by the other thread in the meantime
+			if (entry == null || !entry.isReferenced) {
+
+				this.entries.set(index, newEntry);
+
+				if (entry != null) {
+					this.evictionCount.increment();
+
+					final DateParseCacheEvictionEvent event = new DateParseCacheEvictionEvent();
+
+					if (event.shouldCommit()) {
+						event.format = this.dateFormatInfo.name();
+						event.capacity = this.getCapacity();
+						event.evictedDate = entry.date;
+						event.commit();
+					}
+				}
+
+				return;
+			}
+
+			entry.isReferenced = false;
+		}
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Spread the higher bits of the hash code to the lower bits which select the set.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param hashCode [i] The hash code of the string
+	 * @return Returns the spread hash code
+	 */
+	private static int spread(int hashCode) {
+
+		final int hash = hashCode * 0x9E3779B9;
+
+		return hash ^ (hash >>> 16);
+	}
+
+	// ================= inner classes =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The entry of the cache.<br>
+	 * The reference bit is not volatile, because the lost update of it only makes the order of the eviction less accurate.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final class Entry {
+
+		private final int hash;
+		private final String date;
+		private final boolean isLenient;
+		private final int value;
+		private boolean isReferenced = false;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to initialise the class with the string and the decoded value.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param hash [i] The spread hash code of the string
+		 * @param date [i] Value of date
+		 * @param isLenient [i] The lenient setting used to decode the date
+		 * @param value [i] The value decoded from the date
+		 */
+		private Entry(int hash, String date, boolean isLenient, int value) {
+
+			this.hash = hash;
+			this.date = date;
+			this.isLenient = isLenient;
+			this.value = value;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return boolean the entry is of the string and the lenient setting or not.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param hash [i] The spread hash code of the string
+		 * @param date [i] Value of date
+		 * @param isLenient [i] The lenient setting used to decode the date
+		 * @return Returns {@code true} if the entry matches, or {@code false}
+		 */
+		private boolean matches(int hash, String date, boolean isLenient) {
+
+			return this.hash == hash && this.isLenient == isLenient && this.date.equals(date);
+		}
+	}
+}
@@ -0,0 +1,608 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Comparator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to iterate the dates from the start date to the end date by the step of days, weeks or months.<br>
+ * The dates are iterated as the epoch days of int without creating any object,
+ * and the string of the date is formatted only when the element of {@link #format(CompiledDateFormat)} is consumed.<br>
+ * The spliterator knows the exact size of the range and each split of it, so the parallel stream is split evenly.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #epochDays()} or {@link #packedDates()} for the calculations,
+ * and {@link #format(CompiledDateFormat)} for the output of the strings.<br>
+ * The instance is immutable, so it can be shared between threads and iterated many times.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * Both the start date and the end date are included in the range.<br>
+ * If the start date is after the end date, the range is empty.<br>
+ * The date of the step of months is calculated from the start date,
+ * so the day is adjusted to the last day of the month if it does not exist but it is not carried to the following dates.<br>
+ * </DD>
+ * <DT>Example:</DT>
+ * <DD>
+ * <strong>DateRange.of(20190131, 20190430, Step.MONTH, 1).packedDates().toArray();</strong><br>
+ * <strong>then [20190131, 20190228, 20190331, 20190430]</strong><br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see PackedDate
+ */
+public final class DateRange {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This enum class was defined to define the unit of the step of the range.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @author Kato Shinya
+	 * @since 2026.10.17
+	 * @version 1.0
+	 */
+	public enum Step {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the step of days.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		DAY,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the step of weeks.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		WEEK,
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the step of months.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		MONTH
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The characteristics of the spliterator of the range.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.SIZED
+			| Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The start date and the end date in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int startDate;
+	private final int endDate;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The unit and the amount of the step.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final Step step;
+	private final int amount;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The epoch day of the start date.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int startEpochDay;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the days between the dates, which is 0 for the step of months.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int stepDays;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the dates of the range.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int size;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class and calculate the size of the range.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param startDate [i] The start date in yyyyMMdd form
+	 * @param endDate [i] The end date in yyyyMMdd form
+	 * @param step [i] The unit of the step
+	 * @param amount [i] The amount of the step
+	 */
+	private DateRange(int startDate, int endDate, Step step, int amount) {
+
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.step = step;
+		this.amount = amount;
+		this.startEpochDay = PackedDate.toEpochDay(startDate);
+		this.stepDays = step == Step.DAY ? amount : step == Step.WEEK ? amount * 7 : 0;
+
+		if (startDate > endDate) {
+			this.size = 0;
+		} else if (step == Step.MONTH) {
+
+			int months = PackedDate.getYear(endDate) * 12 + PackedDate.getMonth(endDate) - PackedDate.getYear(startDate) * 12 - PackedDate.getMonth(startDate);
+
+			// the day of the last month may be after the end date
+			if (this.plusMonths(months) > endDate) {
+				months--;
+			}
+
+			this.size = months / amount + 1;
+		} else {
+			this.size = (PackedDate.toEpochDay(endDate) - this.startEpochDay) / this.stepDays + 1;
+		}
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the step of a day.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param startDate [i] The start date in yyyyMMdd form, inclusive
+	 * @param endDate [i] The end date in yyyyMMdd form, inclusive
+	 * @return Returns the date range
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static DateRange of(int startDate, int endDate) {
+
+		return of(startDate, endDate, Step.DAY, 1);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the step.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>DateRange.of(20190101, 20191231, Step.WEEK, 2);</strong><br>
+	 * <strong>then the dates of every two weeks from 20190101</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param startDate [i] The start date in yyyyMMdd form, inclusive
+	 * @param endDate [i] The end date in yyyyMMdd form, inclusive
+	 * @param step [i] The unit of the step
+	 * @param amount [i] The amount of the step, which is 1 or more
+	 * @return Returns the date range
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static DateRange of(int startDate, int endDate, Step step, int amount) {
+
+		if (!PackedDate.isValid(startDate) || !PackedDate.isValid(endDate)) {
+			throw new IllegalArgumentException(String.format("Parameter [%d, %d] is a invalid range.", startDate, endDate));
+		}
+
+		if (step == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (amount < 1) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", amount));
+		}
+
+		return new DateRange(startDate, endDate, step, amount);
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the sequential stream of the epoch days of the range.<br>
+	 * Call {@link IntStream#parallel()} to process it in parallel.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the stream of the epoch days
+	 */
+	public IntStream epochDays() {
+
+		return StreamSupport.intStream(this.spliterator(), false);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the sequential stream of the dates of the range in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the stream of the packed dates
+	 */
+	public IntStream packedDates() {
+
+		return this.epochDays().map(PackedDate::ofEpochDay);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the sequential stream of the dates of the range formatted in the date format.<br>
+	 * Each date is formatted only when the stream pulls it, so a short-circuiting operation such as {@link Stream#limit(long)}
+	 * does not format the rest of the range.<br>
+	 * If {@link FormattedDateCache} is enabled for the format, the cached string is returned for the date in its window.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The date format
+	 * @return Returns the stream of the formatted dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see CalendarHandler#getCompiledDateFormat()
+	 */
+	public Stream<String> format(CompiledDateFormat compiledDateFormat) {
+
+		if (compiledDateFormat == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		final FormattedDateCache cache = FormattedDateCache.getEnabled(compiledDateFormat.getDateFormatInfo());
+
+		if (cache == null) {
+			return this.epochDays().mapToObj(epochDay -> compiledDateFormat.format(PackedDate.ofEpochDay(epochDay)));
+		}
+
+		return this.epochDays().mapToObj(cache::formatEpochDay);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the spliterator of the epoch days of the range.<br>
+	 * It is split at the middle of the index, so both halves know their exact size.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the spliterator
+	 */
+	public Spliterator.OfInt spliterator() {
+
+		return new DateSpliterator(this, 0, this.size);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the iterator of the epoch days of the range.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the iterator
+	 */
+	public PrimitiveIterator.OfInt iterator() {
+
+		return Spliterators.iterator(this.spliterator());
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the epoch day of the date at the index of the range.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param index [i] The index from 0
+	 * @return Returns the epoch day
+	 * @throws IllegalArgumentException throws when the index is out of the range
+	 */
+	public int getEpochDay(int index) {
+
+		if (index < 0 || index >= this.size) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", index));
+		}
+
+		return this.epochDayAt(index);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the dates of the range.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the dates
+	 */
+	public int size() {
+
+		return this.size;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the start date of the range.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the start date in yyyyMMdd form
+	 */
+	public int getStartDate() {
+
+		return this.startDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the end date of the range.<br>
+	 * The last date of the range is before the end date if the end date is not on the step.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the end date in yyyyMMdd form
+	 */
+	public int getEndDate() {
+
+		return this.endDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the unit of the step of the range.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the unit of the step
+	 */
+	public Step getStep() {
+
+		return this.step;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the amount of the step of the range.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the amount of the step
+	 */
+	public int getAmount() {
+
+		return this.amount;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("DateRange [%d, %d, %s, %d]", this.startDate, this.endDate, this.step, this.amount);
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the epoch day of the date at the index without checking the index.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param index [i] The index from 0
+	 * @return Returns the epoch day
+	 */
+	private int epochDayAt(int index) {
+
+		if (this.stepDays != 0) {
+			return this.startEpochDay + index * this.stepDays;
+		}
+
+		return PackedDate.toEpochDay(this.plusMonths(index * this.amount));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Add the months to the start date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param months [i] The months to be added
+	 * @return Returns the date in yyyyMMdd form
+	 */
+	private int plusMonths(int months) {
+
+		return CivilCalendar.plusMonths(PackedDate.getYear(this.startDate), PackedDate.getMonth(this.startDate), PackedDate.getDay(this.startDate), months);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This class was created to split and iterate the epoch days of the range by the index.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final class DateSpliterator implements Spliterator.OfInt {
+
+		private final DateRange range;
+		private int index;
+		private final int fence;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to initialise the class.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param range [i] The date range
+		 * @param index [i] The first index, inclusive
+		 * @param fence [i] The last index, exclusive
+		 */
+		private DateSpliterator(DateRange range, int index, int fence) {
+			this.range = range;
+			this.index = index;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+
+			if (this.index >= this.fence) {
+				return false;
+			}
+
+			action.accept(this.range.epochDayAt(this.index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+
+			final int stepDays = this.range.stepDays;
+
+			if (stepDays == 0) {
+				while (this.index < this.fence) {
+					action.accept(this.range.epochDayAt(this.index++));
+				}
+
+				return;
+			}
+
+			// the epoch days are increased by the step without the multiplication
+			int epochDay = this.range.epochDayAt(this.index);
+
+			for (int i = this.index; i < this.fence; i++, epochDay += stepDays) {
+				action.accept(epochDay);
+			}
+
+			this.index = this.fence;
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+
+			final int middle = (this.index + this.fence) >>> 1;
+
+			if (middle <= this.index) {
+				return null;
+			}
+
+			final DateSpliterator prefix = new DateSpliterator(this.range, this.index, middle);
+			this.index = middle;
+
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.fence - this.index;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+
+		@Override
+		public Comparator<? super Integer> getComparator() {
+			// the epoch days are sorted in the natural order
+			return null;
+		}
+	}
+}
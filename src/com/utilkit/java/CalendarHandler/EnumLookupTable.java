@@ -0,0 +1,430 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to hold the lookup tables of the enum class of calendar information and format information.<br>
+ * The tables are built only once per enum class and shared, so the lookups do neither reflection nor stream processing.<br>
+ * The constant is looked up by the index of an array for the code value, and by the hash for the format and the names.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * As with the linear search, the first constant in the declaration order is returned when the constants share the same key.<br>
+ * All tables are immutable, so they can be shared between threads without locking.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see com.utilkit.java.CalendarHandler.ICalendarInfoEnum
+ * @see com.utilkit.java.CalendarHandler.IFormatInfoEnum
+ */
+final class EnumLookupTable<E extends Enum<E>> {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The max range of the code values held in an array.<br>
+	 * If the code values are more sparse than this, they are held in the hash map instead.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int MAX_CODE_RANGE = 1024;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The tables associated with each enum class.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final ClassValue<EnumLookupTable<?>> TABLES = new ClassValue<EnumLookupTable<?>>() {
+
+		@Override
+		protected EnumLookupTable<?> computeValue(Class<?> type) {
+			return create(type);
+		}
+	};
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The constants indexed by the code value minus {@link #minCode}, or null if the code values are too sparse.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final Object[] constantsByCode;
+
+	private final int minCode;
+	private final Map<Integer, E> codeMap;
+	private final List<E> orderedList;
+	private final Map<String, E> formatMap;
+	private final Map<String, E> japaneseNameMap;
+	private final Map<String, E> englishNameMap;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The optionals of the constants indexed by the ordinal.<br>
+	 * They are created only once, so the lookups returning {@link Optional} do not create any object.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final List<Optional<E>> optionals;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to build the tables from the constants of the enum class.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param constants [i] The constants in the declaration order
+	 * @param codeFunction [i] The function to get the code value
+	 * @param orderFunction [i] The function to get the order
+	 * @param formatFunction [i] The function to get the format, or null
+	 * @param japaneseNameFunction [i] The function to get the Japanese name, or null
+	 * @param englishNameFunction [i] The function to get the English name, or null
+	 */
+	private EnumLookupTable(List<E> constants, ToIntFunction<E> codeFunction, ToIntFunction<E> orderFunction,
+			Function<E, String> formatFunction, Function<E, String> japaneseNameFunction, Function<E, String> englishNameFunction) {
+
+		final Map<Integer, E> codeMap = new HashMap<Integer, E>();
+		int minCode = Integer.MAX_VALUE;
+		int maxCode = Integer.MIN_VALUE;
+
+		for (E e : constants) {
+			final int code = codeFunction.applyAsInt(e);
+
+			codeMap.putIfAbsent(code, e);
+			minCode = Math.min(minCode, code);
+			maxCode = Math.max(maxCode, code);
+		}
+
+		Object[] constantsByCode = null;
+
+		if (!constants.isEmpty() && (long) maxCode - minCode < MAX_CODE_RANGE) {
+			constantsByCode = new Object[maxCode - minCode + 1];
+
+			for (Map.Entry<Integer, E> entry : codeMap.entrySet()) {
+				constantsByCode[entry.getKey() - minCode] = entry.getValue();
+			}
+		}
+
+		final List<Optional<E>> optionals = new ArrayList<Optional<E>>(constants.size());
+
+		for (E e : constants) {
+			optionals.add(Optional.of(e));
+		}
+
+		final List<E> orderedList = new ArrayList<E>(constants);
+		orderedList.sort(Comparator.comparingInt(orderFunction));
+
+		this.constantsByCode = constantsByCode;
+		this.minCode = minCode;
+		this.codeMap = Collections.unmodifiableMap(codeMap);
+		this.orderedList = Collections.unmodifiableList(orderedList);
+		this.formatMap = createKeyMap(constants, formatFunction);
+		this.japaneseNameMap = createKeyMap(constants, japaneseNameFunction);
+		this.englishNameMap = createKeyMap(constants, englishNameFunction);
+		this.optionals = Collections.unmodifiableList(optionals);
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the tables of the enum class.<br>
+	 * The tables are built when this method is called for the first time for the enum class.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param enumType [i] Enum class implementing {@link ICalendarInfoEnum} or {@link IFormatInfoEnum}
+	 * @return Returns the tables of the enum class
+	 */
+	@SuppressWarnings("unchecked")
+	static <E extends Enum<E>> EnumLookupTable<E> of(Class<?> enumType) {
+
+		return (EnumLookupTable<E>) TABLES.get(enumType);
+	}
+
+	// ================= package-private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the constant associated with the code value.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the corresponding constant does not exist, null will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param code [i] Value of code
+	 * @return Returns the constant, or null
+	 */
+	@SuppressWarnings("unchecked")
+	E getByCode(int code) {
+
+		final Object[] constantsByCode = this.constantsByCode;
+
+		if (constantsByCode == null) {
+			return this.codeMap.get(code);
+		}
+
+		final long index = (long) code - this.minCode;
+
+		if (index < 0 || index >= constantsByCode.length) {
+			return null;
+		}
+
+		return (E) constantsByCode[(int) index];
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the constant associated with the format.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the corresponding constant does not exist, null will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param format [i] Value of format
+	 * @return Returns the constant, or null
+	 */
+	E getByFormat(String format) {
+
+		return this.formatMap.get(format);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the constant associated with the Japanese name.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the corresponding constant does not exist, null will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param japaneseName [i] Value of Japanese name
+	 * @return Returns the constant, or null
+	 */
+	E getByJapaneseName(String japaneseName) {
+
+		return this.japaneseNameMap.get(japaneseName);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the constant associated with the English name.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the corresponding constant does not exist, null will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param englishName [i] Value of English name
+	 * @return Returns the constant, or null
+	 */
+	E getByEnglishName(String englishName) {
+
+		return this.englishNameMap.get(englishName);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the ordinal of the constant associated with the code value.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the corresponding constant does not exist, -1 will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param code [i] Value of code
+	 * @return Returns the ordinal of the constant, or -1
+	 */
+	int ordinalOfCode(int code) {
+
+		final E e = this.getByCode(code);
+
+		return e == null ? -1 : e.ordinal();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the optional of the constant created in advance.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param e [i] The constant, or null
+	 * @return Returns the optional of the constant, or the empty optional if the constant is null
+	 */
+	Optional<E> toOptional(E e) {
+
+		return e == null ? Optional.empty() : this.optionals.get(e.ordinal());
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the unmodifiable list of the constants sorted by the order.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the ordered list of the constants
+	 */
+	List<E> getOrderedList() {
+
+		return this.orderedList;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the unmodifiable map of the code value and the constant.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the map of the constants
+	 */
+	Map<Integer, E> getMap() {
+
+		return this.codeMap;
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Build the tables of the enum class according to the interface it implements.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param type [i] Enum class
+	 * @return Returns the tables of the enum class
+	 * @throws IllegalArgumentException throws when the argument is not supported
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static EnumLookupTable<?> create(Class<?> type) {
+
+		if (!type.isEnum()) {
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", type));
+		}
+
+		final List constants = new ArrayList();
+		Collections.addAll(constants, type.getEnumConstants());
+
+		if (ICalendarInfoEnum.class.isAssignableFrom(type)) {
+			return new EnumLookupTable(constants,
+					(ToIntFunction<ICalendarInfoEnum<?>>) ICalendarInfoEnum::getCode,
+					(ToIntFunction<ICalendarInfoEnum<?>>) ICalendarInfoEnum::getOrder,
+					null,
+					(Function<ICalendarInfoEnum<?>, String>) ICalendarInfoEnum::getJapaneseName,
+					(Function<ICalendarInfoEnum<?>, String>) ICalendarInfoEnum::getEnglishName);
+		}
+
+		if (IFormatInfoEnum.class.isAssignableFrom(type)) {
+			return new EnumLookupTable(constants,
+					(ToIntFunction<IFormatInfoEnum<?>>) IFormatInfoEnum::getCode,
+					(ToIntFunction<IFormatInfoEnum<?>>) IFormatInfoEnum::getOrder,
+					(Function<IFormatInfoEnum<?>, String>) IFormatInfoEnum::getFormat,
+					null,
+					null);
+		}
+
+		throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", type));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Create the unmodifiable map of the key and the constant.<br>
+	 * The first constant in the declaration order is held when the constants share the same key.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param constants [i] The constants in the declaration order
+	 * @param keyFunction [i] The function to get the key, or null
+	 * @return Returns the map of the key and the constant
+	 */
+	private static <E> Map<String, E> createKeyMap(List<E> constants, Function<E, String> keyFunction) {
+
+		if (keyFunction == null) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, E> keyMap = new HashMap<String, E>();
+
+		for (E e : constants) {
+			keyMap.putIfAbsent(keyFunction.apply(e), e);
+		}
+
+		return Collections.unmodifiableMap(keyMap);
+	}
+}
@@ -0,0 +1,480 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to cache the formatted dates within the window around the current date.<br>
+ * The dates in the window are formatted when the cache is created and held in the array indexed by the epoch day,
+ * so formatting the date in the window returns the shared string without formatting it again.<br>
+ * The dates out of the window are formatted by {@link CompiledDateFormat} as usual.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #enable(DateFormatInfo, int, int)} to enable the cache for the format in {@link CalendarHandler}.<br>
+ * Use {@link #of(DateFormatInfo, int, int)} to use the cache directly without enabling it.<br>
+ * The cache is immutable except for the counters, so it can be shared between threads.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * The window is decided by the system date when the cache is created, and it does not move with the date.<br>
+ * For the long running process, enable the cache again periodically to move the window.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CompiledDateFormat
+ */
+public final class FormattedDateCache {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The default number of the days cached before and after the current date, which is about 3 years.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int DEFAULT_DAYS = 3 * 366;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The max number of the days cached before or after the current date, which is about 100 years.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int MAX_DAYS = 100 * 366;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The caches enabled in {@link CalendarHandler}, indexed by {@link CompiledDateFormat#patternOrdinalOf(DateFormatInfo)}.<br>
+	 * The formats of the same pattern share one cache, because {@link CalendarHandler} can not tell them apart by the pattern.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final AtomicReferenceArray<FormattedDateCache> ENABLED_CACHES = new AtomicReferenceArray<>(DateFormatInfo.values().length);
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The compiled date format to format the dates.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final CompiledDateFormat compiledDateFormat;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The first and the last dates of the window in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int firstDate;
+	private final int lastDate;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The epoch day of the first date of the window.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int firstEpochDay;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The formatted dates of the window, indexed by the epoch day from the first date.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final String[] formattedDates;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The counters of the dates formatted with and without the cache.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class and format the dates of the window.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param compiledDateFormat [i] The compiled date format to format the dates
+	 * @param firstEpochDay [i] The epoch day of the first date of the window
+	 * @param lastEpochDay [i] The epoch day of the last date of the window
+	 */
+	private FormattedDateCache(CompiledDateFormat compiledDateFormat, int firstEpochDay, int lastEpochDay) {
+
+		this.compiledDateFormat = compiledDateFormat;
+		this.firstDate = PackedDate.ofEpochDay(firstEpochDay);
+		this.lastDate = PackedDate.ofEpochDay(lastEpochDay);
+		this.firstEpochDay = firstEpochDay;
+		this.formattedDates = new String[lastEpochDay - firstEpochDay + 1];
+
+		for (int i = 0; i < this.formattedDates.length; i++) {
+			this.formattedDates[i] = compiledDateFormat.format(PackedDate.ofEpochDay(firstEpochDay + i));
+		}
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the default window.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information to be cached
+	 * @return Returns the cache of the formatted dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see #DEFAULT_DAYS
+	 */
+	public static FormattedDateCache of(DateFormatInfo dateFormatInfo) {
+
+		return of(dateFormatInfo, DEFAULT_DAYS, DEFAULT_DAYS);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the window around the current date.<br>
+	 * The window is clipped to the range of {@link PackedDate}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information to be cached
+	 * @param daysBefore [i] The number of the days cached before the current date
+	 * @param daysAfter [i] The number of the days cached after the current date
+	 * @return Returns the cache of the formatted dates
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see #MAX_DAYS
+	 */
+	public static FormattedDateCache of(DateFormatInfo dateFormatInfo, int daysBefore, int daysAfter) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (daysBefore < 0 || daysBefore > MAX_DAYS) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", daysBefore));
+		}
+
+		if (daysAfter < 0 || daysAfter > MAX_DAYS) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", daysAfter));
+		}
+
+		final Calendar cal = new GregorianCalendar();
+		final int today = CivilCalendar.toEpochDay(cal.get(Calendar.YEAR), cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DAY_OF_MONTH));
+		final int firstEpochDay = Math.max(today - daysBefore, PackedDate.MIN_EPOCH_DAY);
+		final int lastEpochDay = Math.min(today + daysAfter, PackedDate.MAX_EPOCH_DAY);
+
+		return new FormattedDateCache(CompiledDateFormat.of(dateFormatInfo), firstEpochDay, lastEpochDay);
+	}
+
+	// ================= enabling =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Enable the cache with the default window for the format in {@link CalendarHandler}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information to be cached
+	 * @return Returns the enabled cache
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 *
+	 * @see #enable(DateFormatInfo, int, int)
+	 */
+	public static FormattedDateCache enable(DateFormatInfo dateFormatInfo) {
+
+		return enable(dateFormatInfo, DEFAULT_DAYS, DEFAULT_DAYS);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Enable the cache with the window around the current date for the format in {@link CalendarHandler}.<br>
+	 * The cache replaces the cache enabled before for the format, and the counters start from 0.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The cache is used by all instances of {@link CalendarHandler} with the format,
+	 * when they format the date by {@link CalendarHandler#adjustDate}, {@link CalendarHandler#getBeginningDateOfWeek},
+	 * {@link CalendarHandler#getEndDateOfWeek}, {@link CalendarHandler#toString(java.util.Date)} and so on.<br>
+	 * The formats of the same pattern such as {@link DateFormatInfo#CANADA} and {@link DateFormatInfo#ENGLAND} share one cache.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information to be cached
+	 * @param daysBefore [i] The number of the days cached before the current date
+	 * @param daysAfter [i] The number of the days cached after the current date
+	 * @return Returns the enabled cache
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static FormattedDateCache enable(DateFormatInfo dateFormatInfo, int daysBefore, int daysAfter) {
+
+		final FormattedDateCache cache = of(dateFormatInfo, daysBefore, daysAfter);
+
+		ENABLED_CACHES.set(CompiledDateFormat.patternOrdinalOf(dateFormatInfo), cache);
+
+		return cache;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Disable the cache for the format in {@link CalendarHandler}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information not to be cached
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static void disable(DateFormatInfo dateFormatInfo) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		ENABLED_CACHES.set(CompiledDateFormat.patternOrdinalOf(dateFormatInfo), null);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the cache enabled for the format in {@link CalendarHandler}.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the cache is not enabled, {@code null} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dateFormatInfo [i] The date format information
+	 * @return Returns the enabled cache, or {@code null}
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static FormattedDateCache getEnabled(DateFormatInfo dateFormatInfo) {
+
+		if (dateFormatInfo == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		return ENABLED_CACHES.get(CompiledDateFormat.patternOrdinalOf(dateFormatInfo));
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format the packed date in yyyyMMdd form.<br>
+	 * The date in the window returns the cached string, and the date out of the window is formatted.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, empty string will be returned and neither counter is increased.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns formatted date
+	 *
+	 * @see CompiledDateFormat#format(int)
+	 */
+	public String format(int packedDate) {
+
+		if (!PackedDate.isValid(packedDate)) {
+			return "";
+		}
+
+		if (packedDate < this.firstDate || packedDate > this.lastDate) {
+			this.missCount.increment();
+			return this.compiledDateFormat.format(packedDate);
+		}
+
+		this.hitCount.increment();
+
+		return this.formattedDates[PackedDate.toEpochDay(packedDate) - this.firstEpochDay];
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Format the epoch day.<br>
+	 * The date in the window returns the cached string, and the date out of the window is formatted.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the epoch day is out of the range of {@link PackedDate}, empty string will be returned and neither counter is increased.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param epochDay [i] Number of days from 1970-01-01
+	 * @return Returns formatted date
+	 */
+	public String formatEpochDay(int epochDay) {
+
+		final int index = epochDay - this.firstEpochDay;
+
+		if (index >= 0 && index < this.formattedDates.length) {
+			this.hitCount.increment();
+			return this.formattedDates[index];
+		}
+
+		final int packedDate = PackedDate.ofEpochDay(epochDay);
+
+		if (packedDate == PackedDate.INVALID) {
+			return "";
+		}
+
+		this.missCount.increment();
+
+		return this.compiledDateFormat.format(packedDate);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the date format information of this cache.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the date format information
+	 */
+	public DateFormatInfo getDateFormatInfo() {
+
+		return this.compiledDateFormat.getDateFormatInfo();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the first date of the window in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the first date of the window
+	 */
+	public int getFirstDate() {
+
+		return this.firstDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the last date of the window in yyyyMMdd form.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the last date of the window
+	 */
+	public int getLastDate() {
+
+		return this.lastDate;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the dates formatted with the cache.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the cache hits
+	 */
+	public long getHitCount() {
+
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the dates formatted without the cache because they are out of the window.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the number of the cache misses
+	 */
+	public long getMissCount() {
+
+		return this.missCount.sum();
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("FormattedDateCache [dateFormatInfo=%s, firstDate=%d, lastDate=%d, hitCount=%d, missCount=%d]",
+				this.getDateFormatInfo(), this.firstDate, this.lastDate, this.getHitCount(), this.getMissCount());
+	}
+}
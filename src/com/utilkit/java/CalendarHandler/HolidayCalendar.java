@@ -0,0 +1,1099 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.utilkit.java.CalendarHandler.CalendarInfoEnum.WeekInfo;
+import com.utilkit.java.CalendarHandler.FormatInfoEnum.DateFormatInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to provide the public holidays of the regions.<br>
+ * The holidays of each region are generated by the rules of the fixed dates, the n-th days of week and the dates relative to Easter,
+ * and they are compiled once per year into the bit set of the days of the year.<br>
+ * The compiled bit sets are shared between the regions and the years that have the same holidays,
+ * and the holidays of multiple regions are calculated by the bitwise OR of the bit sets.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #of(Region...)} to get the calendar of the regions, and {@link BusinessDayCalendar#of(int, int, HolidayCalendar)} to calculate the business days.<br>
+ * The instance is immutable and the compiled bit sets are cached, so it can be shared between threads.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * Only the national holidays are generated, and the holidays of the states and the provinces are not included.<br>
+ * The holidays that follow the lunar calendar, such as Makha Bucha and Visakha Bucha of {@link Region#THAILAND}, cannot be generated by the rules,
+ * so pass them to {@link BusinessDayCalendar#of(int, int, int[])} in addition if necessary.<br>
+ * The rules follow the current law and the changes since 2000, and the holidays before it are not always accurate.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see BusinessDayCalendar
+ */
+public final class HolidayCalendar {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The number of the words of the bit set of a year, the bit of {@code dayOfYear - 1} is set for the holiday.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final int WORDS_PER_YEAR = 6;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The compiled bit sets of the years, so that the same bit set is shared.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final ConcurrentMap<YearBits, YearBits> INTERNED_YEAR_BITS = new ConcurrentHashMap<>();
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This enum class was defined to define the regions and their holiday rules.<br>
+	 * The regions of {@link DateFormatInfo} and Japan are supported.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @author Kato Shinya
+	 * @since 2026.10.17
+	 * @version 1.0
+	 *
+	 * @see #of(DateFormatInfo)
+	 */
+	public enum Region {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the national holidays of Japan.<br>
+		 * The holiday between two holidays and the substitute holiday after the holiday on Sunday are included.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		JAPAN(Substitute.JAPAN,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.fixed(1, 15).between(1949, 1999),
+				HolidayRule.nthWeekday(1, 2, WeekInfo.Monday).between(2000, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(2, 11).between(1967, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(2, 23).between(2020, PackedDate.MAX_YEAR),
+				HolidayRule.vernalEquinox().between(1949, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(4, 29),
+				HolidayRule.fixed(5, 3),
+				HolidayRule.fixed(5, 4).between(2007, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(5, 5),
+				HolidayRule.fixed(7, 20).between(1996, 2002),
+				HolidayRule.nthWeekday(7, 3, WeekInfo.Monday).between(2003, PackedDate.MAX_YEAR).except(2020, 2021),
+				HolidayRule.fixed(8, 11).between(2016, PackedDate.MAX_YEAR).except(2020, 2021),
+				HolidayRule.fixed(9, 15).between(1966, 2002),
+				HolidayRule.nthWeekday(9, 3, WeekInfo.Monday).between(2003, PackedDate.MAX_YEAR),
+				HolidayRule.autumnalEquinox().between(1948, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(10, 10).between(1966, 1999),
+				HolidayRule.nthWeekday(10, 2, WeekInfo.Monday).between(2000, PackedDate.MAX_YEAR).except(2020, 2021),
+				HolidayRule.fixed(11, 3),
+				HolidayRule.fixed(11, 23),
+				HolidayRule.fixed(12, 23).between(1989, 2018),
+				// the holidays of the imperial ceremonies and the Olympic Games
+				HolidayRule.fixed(4, 10).in(1959),
+				HolidayRule.fixed(2, 24).in(1989),
+				HolidayRule.fixed(11, 12).in(1990),
+				HolidayRule.fixed(6, 9).in(1993),
+				HolidayRule.fixed(5, 1).in(2019),
+				HolidayRule.fixed(10, 22).in(2019),
+				HolidayRule.fixed(7, 23).in(2020),
+				HolidayRule.fixed(7, 24).in(2020),
+				HolidayRule.fixed(8, 10).in(2020),
+				HolidayRule.fixed(7, 22).in(2021),
+				HolidayRule.fixed(7, 23).in(2021),
+				HolidayRule.fixed(8, 8).in(2021)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the federal holidays of the United States.<br>
+		 * The holiday on Saturday is observed on Friday, and the holiday on Sunday is observed on Monday.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		AMERICA(Substitute.NEAREST_WEEKDAY,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.nthWeekday(1, 3, WeekInfo.Monday).between(1986, PackedDate.MAX_YEAR),
+				HolidayRule.nthWeekday(2, 3, WeekInfo.Monday).between(1971, PackedDate.MAX_YEAR),
+				HolidayRule.nthWeekday(5, -1, WeekInfo.Monday).between(1971, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(6, 19).between(2021, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(7, 4),
+				HolidayRule.nthWeekday(9, 1, WeekInfo.Monday),
+				HolidayRule.nthWeekday(10, 2, WeekInfo.Monday).between(1971, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(11, 11),
+				HolidayRule.nthWeekday(11, 4, WeekInfo.Thursday),
+				HolidayRule.fixed(12, 25)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the federal statutory holidays of Canada.<br>
+		 * The holiday on the weekend is moved to the next business day.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		CANADA(Substitute.NEXT_WORKDAY,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.easter(-2),
+				HolidayRule.weekdayOnOrBefore(5, 24, WeekInfo.Monday),
+				HolidayRule.fixed(7, 1),
+				HolidayRule.nthWeekday(9, 1, WeekInfo.Monday),
+				HolidayRule.fixed(9, 30).between(2021, PackedDate.MAX_YEAR),
+				HolidayRule.nthWeekday(10, 2, WeekInfo.Monday),
+				HolidayRule.fixed(11, 11),
+				HolidayRule.fixed(12, 25),
+				HolidayRule.fixed(12, 26)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the bank holidays of England and Wales.<br>
+		 * The holiday on the weekend is moved to the next business day.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		ENGLAND(Substitute.NEXT_WORKDAY,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.easter(-2),
+				HolidayRule.easter(1),
+				HolidayRule.nthWeekday(5, 1, WeekInfo.Monday).between(1978, PackedDate.MAX_YEAR).except(1995, 2020),
+				HolidayRule.nthWeekday(5, -1, WeekInfo.Monday).between(1971, PackedDate.MAX_YEAR).except(2002, 2012, 2022),
+				HolidayRule.nthWeekday(8, -1, WeekInfo.Monday).between(1971, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(12, 25),
+				HolidayRule.fixed(12, 26),
+				// the moved holidays and the holidays of the royal events
+				HolidayRule.fixed(5, 8).in(1995),
+				HolidayRule.fixed(12, 31).in(1999),
+				HolidayRule.fixed(6, 3).in(2002),
+				HolidayRule.fixed(6, 4).in(2002),
+				HolidayRule.fixed(4, 29).in(2011),
+				HolidayRule.fixed(6, 4).in(2012),
+				HolidayRule.fixed(6, 5).in(2012),
+				HolidayRule.fixed(5, 8).in(2020),
+				HolidayRule.fixed(6, 2).in(2022),
+				HolidayRule.fixed(6, 3).in(2022),
+				HolidayRule.fixed(9, 19).in(2022),
+				HolidayRule.fixed(5, 8).in(2023)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the public holidays of Finland, including Midsummer Eve and Christmas Eve.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		FINLAND(Substitute.NONE,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.fixed(1, 6),
+				HolidayRule.easter(-2),
+				HolidayRule.easter(0),
+				HolidayRule.easter(1),
+				HolidayRule.fixed(5, 1),
+				HolidayRule.easter(39),
+				HolidayRule.easter(49),
+				HolidayRule.weekdayOnOrAfter(6, 19, WeekInfo.Friday),
+				HolidayRule.weekdayOnOrAfter(6, 20, WeekInfo.Saturday),
+				HolidayRule.weekdayOnOrAfter(10, 31, WeekInfo.Saturday),
+				HolidayRule.fixed(12, 6),
+				HolidayRule.fixed(12, 24),
+				HolidayRule.fixed(12, 25),
+				HolidayRule.fixed(12, 26)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the public holidays of France.<br>
+		 * The holidays of Alsace-Moselle and the overseas departments are not included.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		FRANCE(Substitute.NONE,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.easter(1),
+				HolidayRule.fixed(5, 1),
+				HolidayRule.fixed(5, 8),
+				HolidayRule.easter(39),
+				HolidayRule.easter(50),
+				HolidayRule.fixed(7, 14),
+				HolidayRule.fixed(8, 15),
+				HolidayRule.fixed(11, 1),
+				HolidayRule.fixed(11, 11),
+				HolidayRule.fixed(12, 25)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the public holidays of Thailand that follow the solar calendar.<br>
+		 * The holiday on the weekend is moved to the next business day.<br>
+		 * The Buddhist holidays that follow the lunar calendar are not included.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		THAILAND(Substitute.NEXT_WORKDAY,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.fixed(4, 6),
+				HolidayRule.fixed(4, 13),
+				HolidayRule.fixed(4, 14),
+				HolidayRule.fixed(4, 15),
+				HolidayRule.fixed(5, 1),
+				HolidayRule.fixed(5, 5).between(1950, 2016),
+				HolidayRule.fixed(5, 4).between(2020, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(6, 3).between(2019, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(7, 28).between(2017, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(8, 12),
+				HolidayRule.fixed(10, 13).between(2017, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(10, 23),
+				HolidayRule.fixed(12, 5),
+				HolidayRule.fixed(12, 10),
+				HolidayRule.fixed(12, 31)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the nationwide public holidays of Germany.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		GERMANY(Substitute.NONE,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.easter(-2),
+				HolidayRule.easter(1),
+				HolidayRule.fixed(5, 1),
+				HolidayRule.easter(39),
+				HolidayRule.easter(50),
+				HolidayRule.fixed(10, 3).between(1990, PackedDate.MAX_YEAR),
+				HolidayRule.fixed(10, 31).in(2017),
+				HolidayRule.fixed(12, 25),
+				HolidayRule.fixed(12, 26)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the public holidays of Denmark.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		DENMARK(Substitute.NONE,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.easter(-3),
+				HolidayRule.easter(-2),
+				HolidayRule.easter(0),
+				HolidayRule.easter(1),
+				HolidayRule.easter(26).between(PackedDate.MIN_YEAR, 2023),
+				HolidayRule.easter(39),
+				HolidayRule.easter(49),
+				HolidayRule.easter(50),
+				HolidayRule.fixed(12, 25),
+				HolidayRule.fixed(12, 26)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the public holidays of Sweden, including Midsummer Eve, Christmas Eve and New Year's Eve.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		SWEDEN(Substitute.NONE,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.fixed(1, 6),
+				HolidayRule.easter(-2),
+				HolidayRule.easter(0),
+				HolidayRule.easter(1),
+				HolidayRule.fixed(5, 1),
+				HolidayRule.easter(39),
+				HolidayRule.easter(49),
+				HolidayRule.fixed(6, 6).between(2005, PackedDate.MAX_YEAR),
+				HolidayRule.weekdayOnOrAfter(6, 19, WeekInfo.Friday),
+				HolidayRule.weekdayOnOrAfter(6, 20, WeekInfo.Saturday),
+				HolidayRule.weekdayOnOrAfter(10, 31, WeekInfo.Saturday),
+				HolidayRule.fixed(12, 24),
+				HolidayRule.fixed(12, 25),
+				HolidayRule.fixed(12, 26),
+				HolidayRule.fixed(12, 31)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the national public holidays of Italy.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		ITALY(Substitute.NONE,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.fixed(1, 6),
+				HolidayRule.easter(0),
+				HolidayRule.easter(1),
+				HolidayRule.fixed(4, 25),
+				HolidayRule.fixed(5, 1),
+				HolidayRule.fixed(6, 2),
+				HolidayRule.fixed(8, 15),
+				HolidayRule.fixed(11, 1),
+				HolidayRule.fixed(12, 8),
+				HolidayRule.fixed(12, 25),
+				HolidayRule.fixed(12, 26)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the public holidays of Norway.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		NORWAY(Substitute.NONE,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.easter(-3),
+				HolidayRule.easter(-2),
+				HolidayRule.easter(0),
+				HolidayRule.easter(1),
+				HolidayRule.fixed(5, 1),
+				HolidayRule.fixed(5, 17),
+				HolidayRule.easter(39),
+				HolidayRule.easter(49),
+				HolidayRule.easter(50),
+				HolidayRule.fixed(12, 25),
+				HolidayRule.fixed(12, 26)),
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the national public holidays of Spain.<br>
+		 * The holidays of the autonomous communities, such as Maundy Thursday, are not included.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		SPAIN(Substitute.NONE,
+				HolidayRule.fixed(1, 1),
+				HolidayRule.fixed(1, 6),
+				HolidayRule.easter(-2),
+				HolidayRule.fixed(5, 1),
+				HolidayRule.fixed(8, 15),
+				HolidayRule.fixed(10, 12),
+				HolidayRule.fixed(11, 1),
+				HolidayRule.fixed(12, 6),
+				HolidayRule.fixed(12, 8),
+				HolidayRule.fixed(12, 25));
+
+		private final Substitute substitute;
+		private final HolidayRule[] rules;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * The compiled bit sets indexed by the year from {@link PackedDate#MIN_YEAR}.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		private final AtomicReferenceArray<YearBits> years = new AtomicReferenceArray<>(PackedDate.MAX_YEAR - PackedDate.MIN_YEAR + 1);
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to initialise enum class.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param substitute [i] The rule of the substitute holidays
+		 * @param rules [i] The rules of the holidays
+		 */
+		private Region(Substitute substitute, HolidayRule... rules) {
+			this.substitute = substitute;
+			this.rules = rules;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the region of the date format.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param dateFormatInfo [i] The date format of the region
+		 * @return Returns the region
+		 * @throws IllegalArgumentException throws when the date format is not of any region
+		 */
+		public static Region of(DateFormatInfo dateFormatInfo) {
+
+			if (dateFormatInfo == null) {
+				throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+			}
+
+			for (Region region : values()) {
+				if (region.name().equals(dateFormatInfo.name())) {
+					return region;
+				}
+			}
+
+			throw new IllegalArgumentException(String.format("Parameter [%s] is a invalid parameter.", dateFormatInfo));
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the compiled bit set of the year, and compile it if it is not compiled yet.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param year [i] Value of year
+		 * @return Returns the compiled bit set
+		 */
+		private YearBits getYearBits(int year) {
+
+			final int index = year - PackedDate.MIN_YEAR;
+			final YearBits yearBits = this.years.get(index);
+
+			if (yearBits != null) {
+				return yearBits;
+			}
+
+			final HolidayTableEvent event = new HolidayTableEvent();
+			event.begin();
+
+			// the same bit set is shared by interning even if it is compiled by multiple threads
+			final YearBits compiled = this.compile(year);
+			this.years.set(index, compiled);
+
+			event.end();
+
+			if (event.shouldCommit()) {
+				event.regions = this.name();
+				event.year = year;
+				event.holidayCount = getHolidayCount(compiled.words);
+				event.commit();
+			}
+
+			return compiled;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Generate the holidays of the year and compile them into the bit set.<br>
+		 * The holidays of the years before and after are generated too, because the substitute holiday may be in the other year.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param year [i] Value of year
+		 * @return Returns the compiled bit set
+		 */
+		private YearBits compile(int year) {
+
+			final TreeSet<Integer> holidays = new TreeSet<>();
+
+			for (int y = Math.max(year - 1, PackedDate.MIN_YEAR); y <= Math.min(year + 1, PackedDate.MAX_YEAR); y++) {
+				for (HolidayRule rule : this.rules) {
+
+					final int epochDay = rule.epochDayOf(y);
+
+					if (epochDay != HolidayRule.NONE) {
+						holidays.add(epochDay);
+					}
+				}
+			}
+
+			final int firstEpochDay = CivilCalendar.toEpochDay(year, 1, 1);
+			final int lengthOfYear = CivilCalendar.isLeapYear(year) ? 366 : 365;
+			final long[] words = new long[WORDS_PER_YEAR];
+
+			for (int epochDay : this.substitute.apply(holidays)) {
+
+				final int offset = epochDay - firstEpochDay;
+
+				if (offset >= 0 && offset < lengthOfYear) {
+					words[offset >>> 6] |= 1L << offset;
+				}
+			}
+
+			return intern(words);
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This enum class was defined to define the rules of the substitute holidays.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private enum Substitute {
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents no substitute holiday.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		NONE {
+			@Override
+			TreeSet<Integer> apply(TreeSet<Integer> holidays) {
+				return holidays;
+			}
+		},
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the holiday on Saturday is observed on Friday and the holiday on Sunday is observed on Monday.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		NEAREST_WEEKDAY {
+			@Override
+			TreeSet<Integer> apply(TreeSet<Integer> holidays) {
+
+				final TreeSet<Integer> observed = new TreeSet<>(holidays);
+
+				for (int holiday : holidays) {
+
+					final int dayOfWeek = CivilCalendar.dayOfWeek(holiday);
+
+					if (dayOfWeek == Calendar.SATURDAY) {
+						observed.add(holiday - 1);
+					} else if (dayOfWeek == Calendar.SUNDAY) {
+						observed.add(holiday + 1);
+					}
+				}
+
+				return observed;
+			}
+		},
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the holiday on the weekend is moved to the next day that is neither the weekend nor the holiday.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		NEXT_WORKDAY {
+			@Override
+			TreeSet<Integer> apply(TreeSet<Integer> holidays) {
+
+				final TreeSet<Integer> observed = new TreeSet<>(holidays);
+
+				for (int holiday : holidays) {
+					if (isWeekend(holiday)) {
+
+						int substitute = holiday + 1;
+
+						while (isWeekend(substitute) || observed.contains(substitute)) {
+							substitute++;
+						}
+
+						observed.add(substitute);
+					}
+				}
+
+				return observed;
+			}
+		},
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * A constant field that represents the holidays of Japan.<br>
+		 * The day between two holidays is a holiday since 1988, and the holiday on Sunday is moved to the next day that is not the holiday.<br>
+		 * The substitute holiday is only on Monday from 1973 to 2006.<br>
+		 * </DD>
+		 * </DL>
+		 */
+		JAPAN {
+			@Override
+			TreeSet<Integer> apply(TreeSet<Integer> holidays) {
+
+				final TreeSet<Integer> observed = new TreeSet<>(holidays);
+
+				for (int holiday : holidays) {
+					if (yearOf(holiday + 1) >= 1988 && !holidays.contains(holiday + 1) && holidays.contains(holiday + 2)) {
+						observed.add(holiday + 1);
+					}
+				}
+
+				for (int holiday : holidays) {
+
+					if (CivilCalendar.dayOfWeek(holiday) != Calendar.SUNDAY || yearOf(holiday) < 1973) {
+						continue;
+					}
+
+					int substitute = holiday + 1;
+
+					if (yearOf(holiday) >= 2007) {
+						while (observed.contains(substitute)) {
+							substitute++;
+						}
+					}
+
+					observed.add(substitute);
+				}
+
+				return observed;
+			}
+		};
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the holidays including the substitute holidays.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param holidays [i] The epoch days of the holidays
+		 * @return Returns the epoch days of the holidays including the substitute holidays
+		 */
+		abstract TreeSet<Integer> apply(TreeSet<Integer> holidays);
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return boolean the epoch day is Saturday or Sunday or not.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param epochDay [i] Number of days from 1970-01-01
+		 * @return Returns {@code true} if the epoch day is Saturday or Sunday, or {@code false}
+		 */
+		private static boolean isWeekend(int epochDay) {
+
+			final int dayOfWeek = CivilCalendar.dayOfWeek(epochDay);
+
+			return dayOfWeek == Calendar.SATURDAY || dayOfWeek == Calendar.SUNDAY;
+		}
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * Return the year of the epoch day.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param epochDay [i] Number of days from 1970-01-01
+		 * @return Returns the year
+		 */
+		private static int yearOf(int epochDay) {
+
+			return PackedDate.getYear(CivilCalendar.toPackedDate(epochDay));
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This class was created to hold the compiled bit set of a year as the key of the interning.<br>
+	 * The words must not be modified after it is created.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final class YearBits {
+
+		private final long[] words;
+		private final int hashCode;
+
+		/**
+		 * <DL>
+		 * <DT>Description:</DT>
+		 * <DD>
+		 * This constructor is used to initialise the class.<br>
+		 * </DD>
+		 * </DL>
+		 *
+		 * @param words [i] The words of the bit set
+		 */
+		private YearBits(long[] words) {
+			this.words = words;
+			this.hashCode = Arrays.hashCode(words);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof YearBits && Arrays.equals(this.words, ((YearBits) object).words);
+		}
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The regions of the calendar.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final Region[] regions;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The bit sets of the union of the regions indexed by the year from {@link PackedDate#MIN_YEAR}, or {@code null} if the calendar has only one region.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final AtomicReferenceArray<YearBits> years;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param regions [i] The regions of the calendar
+	 */
+	private HolidayCalendar(Set<Region> regions) {
+		this.regions = regions.toArray(new Region[0]);
+		this.years = this.regions.length > 1 ? new AtomicReferenceArray<>(PackedDate.MAX_YEAR - PackedDate.MIN_YEAR + 1) : null;
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the regions.<br>
+	 * If multiple regions are passed, the day is a holiday if it is a holiday in any of the regions.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>HolidayCalendar calendar = HolidayCalendar.of(Region.JAPAN, Region.AMERICA);</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param regions [i] The regions of the calendar
+	 * @return Returns the holiday calendar
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static HolidayCalendar of(Region... regions) {
+
+		if (regions == null || regions.length == 0) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		final Set<Region> regionSet = EnumSet.noneOf(Region.class);
+
+		for (Region region : regions) {
+
+			if (region == null) {
+				throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+			}
+
+			regionSet.add(region);
+		}
+
+		return new HolidayCalendar(regionSet);
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the calendar of the union of the regions of this calendar and the other calendar.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param other [i] The other calendar
+	 * @return Returns the holiday calendar
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public HolidayCalendar union(HolidayCalendar other) {
+
+		if (other == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		final Set<Region> regionSet = EnumSet.noneOf(Region.class);
+		regionSet.addAll(Arrays.asList(this.regions));
+		regionSet.addAll(Arrays.asList(other.regions));
+
+		return new HolidayCalendar(regionSet);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the date is a holiday or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns {@code true} if the date is a holiday, or {@code false}
+	 * @throws IllegalArgumentException throws when the date is not valid
+	 */
+	public boolean isHoliday(int packedDate) {
+
+		if (!PackedDate.isValid(packedDate)) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", packedDate));
+		}
+
+		final CalendarTable table = CalendarTable.getInstance();
+		final int year = PackedDate.getYear(packedDate);
+		final int offset = table.dayOfYear(year, PackedDate.getMonth(packedDate), PackedDate.getDay(packedDate)) - 1;
+
+		return (this.getYearBits(year).words[offset >>> 6] & 1L << offset) != 0;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the holidays of the year in ascending order.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns the holidays in yyyyMMdd form
+	 * @throws IllegalArgumentException throws when the year is out of the range of {@link PackedDate}
+	 */
+	public int[] getHolidays(int year) {
+
+		checkYear(year);
+
+		final long[] words = this.getYearBits(year).words;
+		final int firstEpochDay = CivilCalendar.toEpochDay(year, 1, 1);
+		final int[] holidays = new int[getHolidayCount(words)];
+		int count = 0;
+
+		for (int i = 0; i < words.length; i++) {
+			for (long word = words[i]; word != 0; word &= word - 1) {
+				holidays[count++] = PackedDate.ofEpochDay(firstEpochDay + (i << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+
+		return holidays;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the holidays of the year.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns the number of the holidays
+	 * @throws IllegalArgumentException throws when the year is out of the range of {@link PackedDate}
+	 */
+	public int getHolidayCount(int year) {
+
+		checkYear(year);
+
+		return getHolidayCount(this.getYearBits(year).words);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the regions of the calendar.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the unmodifiable set of the regions
+	 */
+	public Set<Region> getRegions() {
+
+		return Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(this.regions)));
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the bit set of the year, which is the bitwise OR of the bit sets of the regions.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns the bit set
+	 */
+	private YearBits getYearBits(int year) {
+
+		if (this.years == null) {
+			return this.regions[0].getYearBits(year);
+		}
+
+		final int index = year - PackedDate.MIN_YEAR;
+		final YearBits yearBits = this.years.get(index);
+
+		if (yearBits != null) {
+			return yearBits;
+		}
+
+		final HolidayTableEvent event = new HolidayTableEvent();
+		event.begin();
+
+		final long[] words = new long[WORDS_PER_YEAR];
+
+		for (Region region : this.regions) {
+
+			final long[] regionWords = region.getYearBits(year).words;
+
+			for (int i = 0; i < WORDS_PER_YEAR; i++) {
+				words[i] |= regionWords[i];
+			}
+		}
+
+		final YearBits union = intern(words);
+		this.years.set(index, union);
+
+		event.end();
+
+		if (event.shouldCommit()) {
+			event.regions = this.getRegions().toString();
+			event.year = year;
+			event.holidayCount = getHolidayCount(words);
+			event.commit();
+		}
+
+		return union;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the shared bit set that has the same words.<br>
+	 * The shared bit set is looked up without locking first, so the lock of the map is taken only when the bit set is added.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param words [i] The words of the bit set
+	 * @return Returns the shared bit set
+	 */
+	private static YearBits intern(long[] words) {
+
+		final YearBits yearBits = new YearBits(words);
+		final YearBits shared = INTERNED_YEAR_BITS.get(yearBits);
+
+		if (shared != null) {
+			return shared;
+		}
+
+		final YearBits interned = INTERNED_YEAR_BITS.putIfAbsent(yearBits, yearBits);
+
+		return interned != null ? interned : yearBits;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of the bits of the bit set.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param words [i] The words of the bit set
+	 * @return Returns the number of the bits
+	 */
+	private static int getHolidayCount(long[] words) {
+
+		int count = 0;
+
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+
+		return count;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Check the year is within the range of {@link PackedDate}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @throws IllegalArgumentException throws when the year is out of the range
+	 */
+	private static void checkYear(int year) {
+
+		if (year < PackedDate.MIN_YEAR || year > PackedDate.MAX_YEAR) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", year));
+		}
+	}
+}
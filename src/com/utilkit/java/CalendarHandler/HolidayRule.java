@@ -0,0 +1,408 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+import com.utilkit.java.CalendarHandler.CalendarInfoEnum.WeekInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to define the rule of a holiday that is generated for each year.<br>
+ * The fixed date, the n-th day of week in the month, the day of week on or around the date,
+ * the date relative to Easter and the equinox days are supported.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The rule generates the epoch day of the holiday, or {@link #NONE} if the holiday does not exist in the year.<br>
+ * The rule is immutable, and {@link #between(int, int)} and {@link #except(int...)} return a new rule.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see HolidayCalendar
+ */
+final class HolidayRule {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The value that represents the holiday does not exist in the year.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	static final int NONE = Integer.MIN_VALUE;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The function that returns the epoch day of the holiday in the year.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final IntUnaryOperator epochDayOf;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The first and the last years the rule is effective.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int fromYear;
+	private final int toYear;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The sorted years the rule is not effective.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int[] exceptYears;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param epochDayOf [i] The function that returns the epoch day of the holiday in the year
+	 * @param fromYear [i] The first year the rule is effective
+	 * @param toYear [i] The last year the rule is effective
+	 * @param exceptYears [i] The sorted years the rule is not effective
+	 */
+	private HolidayRule(IntUnaryOperator epochDayOf, int fromYear, int toYear, int[] exceptYears) {
+		this.epochDayOf = epochDayOf;
+		this.fromYear = fromYear;
+		this.toYear = toYear;
+		this.exceptYears = exceptYears;
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule of the holiday on the fixed date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @return Returns the rule
+	 */
+	static HolidayRule fixed(int month, int day) {
+
+		return of(year -> CivilCalendar.toEpochDay(year, month, day));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule of the holiday on the n-th day of week in the month.<br>
+	 * If the n-th is negative, it is counted from the end of the month, so -1 is the last day of week in the month.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param month [i] Value of month
+	 * @param nth [i] The n-th from 1 to 5, or from -1 to -5
+	 * @param weekInfo [i] The day of week
+	 * @return Returns the rule
+	 */
+	static HolidayRule nthWeekday(int month, int nth, WeekInfo weekInfo) {
+
+		return of(year -> {
+
+			final int lengthOfMonth = CivilCalendar.lengthOfMonth(year, month);
+			final int epochDay;
+
+			if (nth > 0) {
+				final int firstDay = CivilCalendar.toEpochDay(year, month, 1);
+				epochDay = firstDay + Math.floorMod(weekInfo.getCode() - CivilCalendar.dayOfWeek(firstDay), 7) + (nth - 1) * 7;
+			} else {
+				final int lastDay = CivilCalendar.toEpochDay(year, month, lengthOfMonth);
+				epochDay = lastDay - Math.floorMod(CivilCalendar.dayOfWeek(lastDay) - weekInfo.getCode(), 7) + (nth + 1) * 7;
+			}
+
+			final int day = epochDay - CivilCalendar.toEpochDay(year, month, 1) + 1;
+
+			return day >= 1 && day <= lengthOfMonth ? epochDay : NONE;
+		});
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule of the holiday on the first day of week on or after the date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @param weekInfo [i] The day of week
+	 * @return Returns the rule
+	 */
+	static HolidayRule weekdayOnOrAfter(int month, int day, WeekInfo weekInfo) {
+
+		return of(year -> {
+			final int epochDay = CivilCalendar.toEpochDay(year, month, day);
+			return epochDay + Math.floorMod(weekInfo.getCode() - CivilCalendar.dayOfWeek(epochDay), 7);
+		});
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule of the holiday on the last day of week on or before the date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @param weekInfo [i] The day of week
+	 * @return Returns the rule
+	 */
+	static HolidayRule weekdayOnOrBefore(int month, int day, WeekInfo weekInfo) {
+
+		return of(year -> {
+			final int epochDay = CivilCalendar.toEpochDay(year, month, day);
+			return epochDay - Math.floorMod(CivilCalendar.dayOfWeek(epochDay) - weekInfo.getCode(), 7);
+		});
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule of the holiday relative to Easter Sunday of the Gregorian calendar.<br>
+	 * For example, Good Friday is -2 and Easter Monday is 1.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param amountDay [i] The days from Easter Sunday
+	 * @return Returns the rule
+	 */
+	static HolidayRule easter(int amountDay) {
+
+		return of(year -> easterSunday(year) + amountDay);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule of the vernal equinox day in Japan.<br>
+	 * </DD>
+	 * <DT>Caution:</DT>
+	 * <DD>
+	 * The day is calculated by the approximation which is effective from 1900 to 2150, and no holiday is generated out of it.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the rule
+	 */
+	static HolidayRule vernalEquinox() {
+
+		return of(year -> equinox(year, 3, year < 1980 ? 20.8357 : year < 2100 ? 20.8431 : 21.8510)).between(1900, 2150);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule of the autumnal equinox day in Japan.<br>
+	 * </DD>
+	 * <DT>Caution:</DT>
+	 * <DD>
+	 * The day is calculated by the approximation which is effective from 1900 to 2150, and no holiday is generated out of it.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the rule
+	 */
+	static HolidayRule autumnalEquinox() {
+
+		return of(year -> equinox(year, 9, year < 1980 ? 23.2588 : year < 2100 ? 23.2488 : 24.2488)).between(1900, 2150);
+	}
+
+	// ================= methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule that is effective only within the years.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param fromYear [i] The first year the rule is effective
+	 * @param toYear [i] The last year the rule is effective
+	 * @return Returns the new rule
+	 */
+	HolidayRule between(int fromYear, int toYear) {
+
+		return new HolidayRule(this.epochDayOf, Math.max(this.fromYear, fromYear), Math.min(this.toYear, toYear), this.exceptYears);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule that is effective only in the year.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] The year the rule is effective
+	 * @return Returns the new rule
+	 */
+	HolidayRule in(int year) {
+
+		return this.between(year, year);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule that is not effective in the years, such as the years the holiday was moved.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param years [i] The years the rule is not effective
+	 * @return Returns the new rule
+	 */
+	HolidayRule except(int... years) {
+
+		final int[] exceptYears = Arrays.copyOf(this.exceptYears, this.exceptYears.length + years.length);
+		System.arraycopy(years, 0, exceptYears, this.exceptYears.length, years.length);
+		Arrays.sort(exceptYears);
+
+		return new HolidayRule(this.epochDayOf, this.fromYear, this.toYear, exceptYears);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the epoch day of the holiday in the year.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns the epoch day, or {@link #NONE} if the holiday does not exist in the year
+	 */
+	int epochDayOf(int year) {
+
+		if (year < this.fromYear || year > this.toYear || Arrays.binarySearch(this.exceptYears, year) >= 0) {
+			return NONE;
+		}
+
+		return this.epochDayOf.applyAsInt(year);
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the rule that is effective in all years of {@link PackedDate}.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param epochDayOf [i] The function that returns the epoch day of the holiday in the year
+	 * @return Returns the rule
+	 */
+	private static HolidayRule of(IntUnaryOperator epochDayOf) {
+
+		return new HolidayRule(epochDayOf, PackedDate.MIN_YEAR, PackedDate.MAX_YEAR, new int[0]);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the epoch day of Easter Sunday of the Gregorian calendar by the anonymous Gregorian algorithm.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns the epoch day of Easter Sunday
+	 */
+	private static int easterSunday(int year) {
+
+		final int a = year % 19;
+		final int b = year / 100;
+		final int c = year % 100;
+		final int d = b / 4;
+		final int e = b % 4;
+		final int f = (b + 8) / 25;
+		final int g = (b - f + 1) / 3;
+		final int h = (19 * a + b - d - g + 15) % 30;
+		final int i = c / 4;
+		final int k = c % 4;
+		final int l = (32 + 2 * e + 2 * i - h - k) % 7;
+		final int m = (a + 11 * h + 22 * l) / 451;
+		final int monthDay = h + l - 7 * m + 114;
+
+		return CivilCalendar.toEpochDay(year, monthDay / 31, monthDay % 31 + 1);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the epoch day of the equinox day by the approximation of the solar year.<br>
+	 * The number of the leap years from the base year is truncated toward zero as in the published formula.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month of the equinox
+	 * @param constant [i] The day of the equinox in the base year
+	 * @return Returns the epoch day of the equinox day
+	 */
+	private static int equinox(int year, int month, double constant) {
+
+		final int leapYears = (year - (year < 1980 ? 1983 : 1980)) / 4;
+
+		return CivilCalendar.toEpochDay(year, month, (int) Math.floor(constant + 0.242194 * (year - 1980) - leapYears));
+	}
+}
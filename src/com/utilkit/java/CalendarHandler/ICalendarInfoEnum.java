@@ -22,12 +22,9 @@
 
 package com.utilkit.java.CalendarHandler;
 
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Optional;
 
 /**
  * <DL>
@@ -131,6 +128,7 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 * <DT>Description:</DT>
 	 * <DD>
 	 * This method is used to get ordered list of enum.<br>
+	 * The list is built only once per enum class, so it is unmodifiable.<br>
 	 * </DD>
 	 * </DL>
 	 *
@@ -140,10 +138,7 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E>> List<E> getOrderedList(Class<? extends ICalendarInfoEnum<E>> enumType) {
 
-		return Arrays.stream(enumType.getEnumConstants())
-				.sorted(Comparator.comparing(ICalendarInfoEnum::getOrder))
-				.map(ICalendarInfoEnum::toEnum)
-				.collect(Collectors.toList());
+		return EnumLookupTable.<E>of(enumType).getOrderedList();
 	}
 
 	/**
@@ -151,6 +146,7 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 * <DT>Description:</DT>
 	 * <DD>
 	 * This method is used to get map of enum.<br>
+	 * The map is built only once per enum class, so it is unmodifiable.<br>
 	 * </DD>
 	 * </DL>
 	 *
@@ -160,8 +156,7 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E>> Map<Integer, E> getMap(Class<? extends ICalendarInfoEnum<E>> enumType) {
 
-		return Arrays.stream(enumType.getEnumConstants())
-				.collect(Collectors.toMap(ICalendarInfoEnum::getCode, ICalendarInfoEnum::toEnum));
+		return EnumLookupTable.<E>of(enumType).getMap();
 	}
 
 	/**
@@ -179,14 +174,7 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E>> boolean hasCode(Class<? extends ICalendarInfoEnum<E>> enumType, int code) {
 
-		final ICalendarInfoEnum<E>[] enumClass = enumType.getEnumConstants();
-
-		for (ICalendarInfoEnum<E> e : enumClass) {
-			if (e.equalsByCode(code)) {
-				return true;
-			}
-		}
-		return false;
+		return EnumLookupTable.of(enumType).getByCode(code) != null;
 	}
 
 	/**
@@ -204,15 +192,9 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E>> boolean hasName(Class<? extends ICalendarInfoEnum<E>> enumType, String name) {
 
-		final ICalendarInfoEnum<E>[] enumClass = enumType.getEnumConstants();
+		final EnumLookupTable<E> table = EnumLookupTable.of(enumType);
 
-		for (ICalendarInfoEnum<E> e : enumClass) {
-			if (e.getJapaneseName().equals(name)
-					|| e.getEnglishName().equals(name)) {
-				return true;
-			}
-		}
-		return false;
+		return table.getByJapaneseName(name) != null || table.getByEnglishName(name) != null;
 	}
 
 	/**
@@ -231,10 +213,13 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E> & ICalendarInfoEnum<E>> E getByCode(Class<E> enumType, int code) {
 
-		return Stream.of(enumType.getEnumConstants())
-				.filter(e -> e.equalsByCode(code))
-				.findFirst()
-				.orElseThrow(() -> new IllegalArgumentException());
+		final E e = EnumLookupTable.<E>of(enumType).getByCode(code);
+
+		if (e == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return e;
 	}
 
 	/**
@@ -253,10 +238,13 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E> & ICalendarInfoEnum<E>> E getByJapaneseName(Class<E> enumType, String japaneseName) {
 
-		return Stream.of(enumType.getEnumConstants())
-				.filter(e -> e.getJapaneseName().equals(japaneseName))
-				.findFirst()
-				.orElseThrow(() -> new IllegalArgumentException());
+		final E e = EnumLookupTable.<E>of(enumType).getByJapaneseName(japaneseName);
+
+		if (e == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return e;
 	}
 
 	/**
@@ -275,9 +263,110 @@ public interface ICalendarInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E> & ICalendarInfoEnum<E>> E getByEnglishName(Class<E> enumType, String englishName) {
 
-		return Stream.of(enumType.getEnumConstants())
-				.filter(v -> v.getEnglishName().equals(englishName))
-				.findFirst()
-				.orElseThrow(() -> new IllegalArgumentException());
+		final E e = EnumLookupTable.<E>of(enumType).getByEnglishName(englishName);
+
+		if (e == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return e;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This method is used to find enum class associated with the code value.<br>
+	 * Unlike {@link #getByCode(Class, int)}, no exception is thrown if the corresponding enum class does not exist.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The optionals are created in advance, so no object is created in this method.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param enumType [i] Enum class to compared with the argument
+	 * @param code [i] Value of code
+	 * @return Returns the optional of enum class associated with the code value, or the empty optional
+	 */
+	public static <E extends Enum<E> & ICalendarInfoEnum<E>> Optional<E> findByCode(Class<E> enumType, int code) {
+
+		final EnumLookupTable<E> table = EnumLookupTable.<E>of(enumType);
+
+		return table.toOptional(table.getByCode(code));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This method is used to find enum class associated with the Japanese name.<br>
+	 * Unlike {@link #getByJapaneseName(Class, String)}, no exception is thrown if the corresponding enum class does not exist.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The optionals are created in advance, so no object is created in this method.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param enumType [i] Enum class to compared with the argument
+	 * @param japaneseName [i] Value of Japanese name
+	 * @return Returns the optional of enum class associated with the Japanese name, or the empty optional
+	 */
+	public static <E extends Enum<E> & ICalendarInfoEnum<E>> Optional<E> findByJapaneseName(Class<E> enumType, String japaneseName) {
+
+		final EnumLookupTable<E> table = EnumLookupTable.<E>of(enumType);
+
+		return table.toOptional(table.getByJapaneseName(japaneseName));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This method is used to find enum class associated with the English name.<br>
+	 * Unlike {@link #getByEnglishName(Class, String)}, no exception is thrown if the corresponding enum class does not exist.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The optionals are created in advance, so no object is created in this method.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param enumType [i] Enum class to compared with the argument
+	 * @param englishName [i] Value of English name
+	 * @return Returns the optional of enum class associated with the English name, or the empty optional
+	 */
+	public static <E extends Enum<E> & ICalendarInfoEnum<E>> Optional<E> findByEnglishName(Class<E> enumType, String englishName) {
+
+		final EnumLookupTable<E> table = EnumLookupTable.<E>of(enumType);
+
+		return table.toOptional(table.getByEnglishName(englishName));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This method is used to get the ordinal of enum class associated with the code value.<br>
+	 * It is useful to map the code values of bulk input to the arrays indexed by the ordinal with a single lookup.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the corresponding enum class does not exist, -1 will be returned instead of throwing the exception.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param enumType [i] Enum class to compared with the argument
+	 * @param code [i] Value of code
+	 * @return Returns the ordinal of enum class associated with the code value, or -1
+	 */
+	public static <E extends Enum<E>> int ordinalOfCode(Class<? extends ICalendarInfoEnum<E>> enumType, int code) {
+
+		return EnumLookupTable.of(enumType).ordinalOfCode(code);
 	}
 }
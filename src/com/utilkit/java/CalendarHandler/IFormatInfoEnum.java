@@ -22,12 +22,9 @@
 
 package com.utilkit.java.CalendarHandler;
 
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Optional;
 
 /**
  * <DL>
@@ -118,6 +115,7 @@ public interface IFormatInfoEnum<E extends Enum<E>> {
 	 * <DT>Description:</DT>
 	 * <DD>
 	 * This method is used to get ordered list of enum.<br>
+	 * The list is built only once per enum class, so it is unmodifiable.<br>
 	 * </DD>
 	 * </DL>
 	 *
@@ -127,10 +125,7 @@ public interface IFormatInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E>> List<E> getOrderedList(Class<? extends IFormatInfoEnum<E>> enumType) {
 
-		return Arrays.stream(enumType.getEnumConstants())
-				.sorted(Comparator.comparing(IFormatInfoEnum::getOrder))
-				.map(IFormatInfoEnum::toEnum)
-				.collect(Collectors.toList());
+		return EnumLookupTable.<E>of(enumType).getOrderedList();
 	}
 
 	/**
@@ -138,6 +133,7 @@ public interface IFormatInfoEnum<E extends Enum<E>> {
 	 * <DT>Description:</DT>
 	 * <DD>
 	 * This method is used to get map of enum.<br>
+	 * The map is built only once per enum class, so it is unmodifiable.<br>
 	 * </DD>
 	 * </DL>
 	 *
@@ -147,8 +143,7 @@ public interface IFormatInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E>> Map<Integer, E> getMap(Class<? extends IFormatInfoEnum<E>> enumType) {
 
-		return Arrays.stream(enumType.getEnumConstants())
-				.collect(Collectors.toMap(IFormatInfoEnum::getCode, IFormatInfoEnum::toEnum));
+		return EnumLookupTable.<E>of(enumType).getMap();
 	}
 
 	/**
@@ -166,14 +161,7 @@ public interface IFormatInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E>> boolean hasCode(Class<? extends IFormatInfoEnum<E>> enumType, int code) {
 
-		final IFormatInfoEnum<E>[] enumClass = enumType.getEnumConstants();
-
-		for (IFormatInfoEnum<E> e : enumClass) {
-			if (e.equalsByCode(code)) {
-				return true;
-			}
-		}
-		return false;
+		return EnumLookupTable.of(enumType).getByCode(code) != null;
 	}
 
 	/**
@@ -191,14 +179,7 @@ public interface IFormatInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E>> boolean hasFormat(Class<? extends IFormatInfoEnum<E>> enumType, String format) {
 
-		final IFormatInfoEnum<E>[] enumClass = enumType.getEnumConstants();
-
-		for (IFormatInfoEnum<E> e : enumClass) {
-			if (e.getFormat().equals(format)) {
-				return true;
-			}
-		}
-		return false;
+		return EnumLookupTable.of(enumType).getByFormat(format) != null;
 	}
 
 	/**
@@ -217,10 +198,13 @@ public interface IFormatInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E> & IFormatInfoEnum<E>> E getByCode(Class<E> enumType, int code) {
 
-		return Stream.of(enumType.getEnumConstants())
-				.filter(e -> e.equalsByCode(code))
-				.findFirst()
-				.orElseThrow(() -> new IllegalArgumentException());
+		final E e = EnumLookupTable.<E>of(enumType).getByCode(code);
+
+		if (e == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return e;
 	}
 
 	/**
@@ -239,9 +223,85 @@ public interface IFormatInfoEnum<E extends Enum<E>> {
 	 */
 	public static <E extends Enum<E> & IFormatInfoEnum<E>> E getByFormat(Class<E> enumType, String format) {
 
-		return Stream.of(enumType.getEnumConstants())
-				.filter(e -> e.getFormat().equals(format))
-				.findFirst()
-				.orElseThrow(() -> new IllegalArgumentException());
+		final E e = EnumLookupTable.<E>of(enumType).getByFormat(format);
+
+		if (e == null) {
+			throw new IllegalArgumentException();
+		}
+
+		return e;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This method is used to find enum class associated with the code value.<br>
+	 * Unlike {@link #getByCode(Class, int)}, no exception is thrown if the corresponding enum class does not exist.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The optionals are created in advance, so no object is created in this method.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param enumType [i] Enum class to compared with the argument
+	 * @param code [i] Value of code
+	 * @return Returns the optional of enum class associated with the code value, or the empty optional
+	 */
+	public static <E extends Enum<E> & IFormatInfoEnum<E>> Optional<E> findByCode(Class<E> enumType, int code) {
+
+		final EnumLookupTable<E> table = EnumLookupTable.<E>of(enumType);
+
+		return table.toOptional(table.getByCode(code));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This method is used to find enum class associated with the format.<br>
+	 * Unlike {@link #getByFormat(Class, String)}, no exception is thrown if the corresponding enum class does not exist.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * The optionals are created in advance, so no object is created in this method.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param enumType [i] Enum class to compared with the argument
+	 * @param format [i] Value of format
+	 * @return Returns the optional of enum class associated with the format, or the empty optional
+	 */
+	public static <E extends Enum<E> & IFormatInfoEnum<E>> Optional<E> findByFormat(Class<E> enumType, String format) {
+
+		final EnumLookupTable<E> table = EnumLookupTable.<E>of(enumType);
+
+		return table.toOptional(table.getByFormat(format));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This method is used to get the ordinal of enum class associated with the code value.<br>
+	 * It is useful to map the code values of bulk input to the arrays indexed by the ordinal with a single lookup.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the corresponding enum class does not exist, -1 will be returned instead of throwing the exception.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param <E> [i] Nonboundary wildcard type
+	 * @param enumType [i] Enum class to compared with the argument
+	 * @param code [i] Value of code
+	 * @return Returns the ordinal of enum class associated with the code value, or -1
+	 */
+	public static <E extends Enum<E>> int ordinalOfCode(Class<? extends IFormatInfoEnum<E>> enumType, int code) {
+
+		return EnumLookupTable.of(enumType).ordinalOfCode(code);
 	}
 }
@@ -0,0 +1,325 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to provide functions to manipulate the date packed in an int of yyyyMMdd form.<br>
+ * For example, 2019-02-16 is represented by {@code 20190216}.<br>
+ * The packed date can be passed through the calculations without formatting and parsing the string,
+ * and it is ordered in the same way as the date.<br>
+ * </DD>
+ * <DT>Caution:</DT>
+ * <DD>
+ * The packed date follows the proleptic Gregorian calendar, and it is valid from 0001-01-01 to 9999-12-31.<br>
+ * The functions returning the packed date return {@link #INVALID} if the date is not valid.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The conversions between the packed date and the epoch day look up {@link CalendarTable#getInstance()} within its range.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CivilCalendar
+ * @see CalendarTable
+ */
+public final class PackedDate {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The value that represents the date is not valid.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int INVALID = -1;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The min year of the packed date.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int MIN_YEAR = 1;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The max year of the packed date.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int MAX_YEAR = 9999;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The epoch day of 0001-01-01.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int MIN_EPOCH_DAY = CivilCalendar.toEpochDay(MIN_YEAR, 1, 1);
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The epoch day of 9999-12-31.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int MAX_EPOCH_DAY = CivilCalendar.toEpochDay(MAX_YEAR, 12, 31);
+
+	private PackedDate() {}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Pack the date in an int of yyyyMMdd form.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date does not exist, {@link #INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param month [i] Value of month
+	 * @param day [i] Value of day
+	 * @return Returns the packed date, or {@link #INVALID}
+	 */
+	public static int of(int year, int month, int day) {
+
+		if (year < MIN_YEAR || year > MAX_YEAR || month < 1 || month > 12 || day < 1 || day > CalendarTable.getInstance().lengthOfMonth(year, month)) {
+			return INVALID;
+		}
+
+		return year * 10000 + month * 100 + day;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the epoch day to the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the epoch day is out of the range of the packed date, {@link #INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param epochDay [i] Number of days from 1970-01-01
+	 * @return Returns the packed date, or {@link #INVALID}
+	 */
+	public static int ofEpochDay(long epochDay) {
+
+		if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+			return INVALID;
+		}
+
+		return CalendarTable.getInstance().toPackedDate((int) epochDay);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the packed date is valid or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns {@code true} if the packed date is valid, or {@code false}
+	 */
+	public static boolean isValid(int packedDate) {
+
+		return packedDate >= 0 && of(getYear(packedDate), getMonth(packedDate), getDay(packedDate)) != INVALID;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the year of the packed date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the year
+	 */
+	public static int getYear(int packedDate) {
+
+		return packedDate / 10000;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the month of the packed date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the month from 1 to 12
+	 */
+	public static int getMonth(int packedDate) {
+
+		return packedDate / 100 % 100;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the day of the packed date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the day of month
+	 */
+	public static int getDay(int packedDate) {
+
+		return packedDate % 100;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Convert the packed date to the epoch day.<br>
+	 * </DD>
+	 * <DT>Caution:</DT>
+	 * <DD>
+	 * The packed date is not validated, so validate it with {@link #isValid(int)} in advance if necessary.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the number of days from 1970-01-01
+	 */
+	public static int toEpochDay(int packedDate) {
+
+		return CalendarTable.getInstance().toEpochDay(packedDate);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Increase or decrease the packed date in the order of year, month and day.<br>
+	 * As with {@code Calendar.add}, the day is adjusted to the last day of the month if it does not exist.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the adjusted date is out of the range of the packed date, {@link #INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @param amountYear [i] Increase / Decrease in Year
+	 * @param amountMonth [i] Increase / Decrease in Month
+	 * @param amountDay [i] Increase / Decrease in day
+	 * @return Returns the adjusted date, or {@link #INVALID}
+	 */
+	public static int adjust(int packedDate, int amountYear, int amountMonth, int amountDay) {
+
+		return adjust(packedDate, amountYear, amountMonth, amountDay, MIN_YEAR);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Increase or decrease the packed date in the order of year, month and day.<br>
+	 * The date in each step must not be before the min year.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the date in any step is out of the range, {@link #INVALID} will be returned.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @param amountYear [i] Increase / Decrease in Year
+	 * @param amountMonth [i] Increase / Decrease in Month
+	 * @param amountDay [i] Increase / Decrease in day
+	 * @param minYear [i] The min year allowed in each step
+	 * @return Returns the adjusted date, or {@link #INVALID}
+	 */
+	static int adjust(int packedDate, int amountYear, int amountMonth, int amountDay, int minYear) {
+
+		final int year = getYear(packedDate);
+
+		if (!isValid(packedDate) || year < minYear || !isInRange((long) year + amountYear, minYear)) {
+			return INVALID;
+		}
+
+		final int adjustedYear = CivilCalendar.plusYears(year, getMonth(packedDate), getDay(packedDate), amountYear);
+		final long monthCount = getYear(adjustedYear) * 12L + getMonth(adjustedYear) - 1 + amountMonth;
+
+		if (!isInRange(Math.floorDiv(monthCount, 12L), minYear)) {
+			return INVALID;
+		}
+
+		final int adjustedMonth = CivilCalendar.plusMonths(getYear(adjustedYear), getMonth(adjustedYear), getDay(adjustedYear), amountMonth);
+		final long epochDay = (long) toEpochDay(adjustedMonth) + amountDay;
+
+		if (epochDay < CivilCalendar.toEpochDay(minYear, 1, 1)) {
+			return INVALID;
+		}
+
+		return ofEpochDay(epochDay);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the year is within the min year and {@link #MAX_YEAR} or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @param minYear [i] The min year
+	 * @return Returns {@code true} if the year is within the range, or {@code false}
+	 */
+	private static boolean isInRange(long year, int minYear) {
+
+		return year >= minYear && year <= MAX_YEAR;
+	}
+}
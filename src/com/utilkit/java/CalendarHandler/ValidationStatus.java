@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to provide functions to read the validation status of the date packed in an int.<br>
+ * The status holds the reason why the date is not valid and the position of the first character that failed,
+ * so the date can be validated without throwing the exception nor creating any object.<br>
+ * </DD>
+ * <DT>Example:</DT>
+ * <DD>
+ * <strong>int status = CompiledDateFormat.of(DateFormatInfo.SLASH).validate("2019/02/30");</strong><br>
+ * <strong>ValidationStatus.getReason(status);</strong><br>
+ * <strong>then {@link #DAY}</strong><br>
+ * <strong>ValidationStatus.getPosition(status);</strong><br>
+ * <strong>then 8</strong><br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The status of the valid date is {@link #VALID}, and the status of the invalid date is always negative.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CompiledDateFormat#validate(CharSequence)
+ * @see CalendarHandler#validate(String)
+ */
+public final class ValidationStatus {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The status that represents the date is valid.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int VALID = 0;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The reason that represents the date is null.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int NULL = 1;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The reason that represents the date is shorter or longer than the format.<br>
+	 * The position is the index where the date ends too early or where it should have ended.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int LENGTH = 2;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The reason that represents the character is not the separator of the format.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int SYMBOL = 3;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The reason that represents the character of the year, month or day is not an ASCII digit.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int DIGIT = 4;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The reason that represents the year is out of the range.<br>
+	 * The position is the index of the year.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int YEAR = 5;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The reason that represents the month is not from 1 to 12.<br>
+	 * The position is the index of the month.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int MONTH = 6;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The reason that represents the day does not exist in the month.<br>
+	 * The position is the index of the day.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final int DAY = 7;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The names of the reasons indexed by the reason.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private static final String[] REASON_NAMES = { "VALID", "NULL", "LENGTH", "SYMBOL", "DIGIT", "YEAR", "MONTH", "DAY" };
+
+	private static final int REASON_SHIFT = 24;
+	private static final int POSITION_MASK = (1 << REASON_SHIFT) - 1;
+
+	private ValidationStatus() {}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return boolean the status represents the date is valid or not.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param status [i] Value of the validation status
+	 * @return Returns {@code true} if the status is {@link #VALID}, or {@code false}
+	 */
+	public static boolean isValid(int status) {
+
+		return status == VALID;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the reason of the status.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param status [i] Value of the validation status
+	 * @return Returns the reason such as {@link #LENGTH} or {@link #DAY}, or {@link #VALID} if the status is valid
+	 */
+	public static int getReason(int status) {
+
+		return status == VALID ? VALID : status >>> REASON_SHIFT & 0x7F;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the index of the first character that failed the validation.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param status [i] Value of the validation status
+	 * @return Returns the index of the character, or -1 if the status is valid
+	 */
+	public static int getPosition(int status) {
+
+		return status == VALID ? -1 : status & POSITION_MASK;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the string representation of the status for the message.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>ValidationStatus.toString(CompiledDateFormat.of(DateFormatInfo.SLASH).validate("2019-02-16"));</strong><br>
+	 * <strong>then "SYMBOL at 4"</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param status [i] Value of the validation status
+	 * @return Returns the string representation of the status
+	 */
+	public static String toString(int status) {
+
+		if (status == VALID) {
+			return REASON_NAMES[VALID];
+		}
+
+		return REASON_NAMES[getReason(status)] + " at " + getPosition(status);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Pack the reason and the position in the status.<br>
+	 * The sign bit is set, so the status never collides with the packed date.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param reason [i] The reason such as {@link #LENGTH} or {@link #DAY}
+	 * @param position [i] The index of the first character that failed the validation
+	 * @return Returns the status
+	 */
+	static int of(int reason, int position) {
+
+		return Integer.MIN_VALUE | reason << REASON_SHIFT | Math.min(position, POSITION_MASK);
+	}
+}
@@ -0,0 +1,468 @@
+/**
+ * Copyright (c) 2019 Kato Shinya
+ * Released under the MIT license
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.utilkit.java.CalendarHandler;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+import com.utilkit.java.CalendarHandler.CalendarInfoEnum.WeekInfo;
+
+/**
+ * <DL>
+ * <DT>Description:</DT>
+ * <DD>
+ * This class was created to define the week by the first day of week and the minimal days in the first week of the year.<br>
+ * The bounds of the week, the week of the year and the week-based year are calculated by the integer arithmetic of the epoch day without {@link Calendar}.<br>
+ * </DD>
+ * <DT>Recommended:</DT>
+ * <DD>
+ * Use {@link #ISO} for the week date of ISO-8601, {@link #SUNDAY_START} for the week starting on Sunday,
+ * and {@link #of(Locale)} for the week of the locale.<br>
+ * The instance is immutable, so it can be shared between threads.<br>
+ * </DD>
+ * <DT>Note:</DT>
+ * <DD>
+ * The week 1 of the year is the first week that has the minimal days or more in the year,
+ * so the first days of January may belong to the last week of the previous week-based year,
+ * and the last days of December may belong to the week 1 of the next week-based year.<br>
+ * The results are the same as {@link Calendar#WEEK_OF_YEAR} and {@link Calendar#getWeekYear()} of the proleptic Gregorian calendar with the same setting.<br>
+ * </DD>
+ * </DL>
+ *
+ * @author Kato Shinya
+ * @since 2026.10.17
+ * @version 1.0
+ *
+ * @see CalendarHandler#setWeekDefinition(WeekDefinition)
+ */
+public final class WeekDefinition {
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The week of ISO-8601, which starts on Monday and whose week 1 has 4 days or more in the year.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final WeekDefinition ISO = new WeekDefinition(Calendar.MONDAY, 4);
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The week which starts on Sunday and whose week 1 includes January 1, as in the United States and Japan.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	public static final WeekDefinition SUNDAY_START = new WeekDefinition(Calendar.SUNDAY, 1);
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The code value of {@link WeekInfo} of the first day of week.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int firstDayOfWeek;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * The minimal days in the first week of the year from 1 to 7.<br>
+	 * </DD>
+	 * </DL>
+	 */
+	private final int minimalDaysInFirstWeek;
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This constructor is used to initialise the class.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param firstDayOfWeek [i] The code value of the first day of week
+	 * @param minimalDaysInFirstWeek [i] The minimal days in the first week of the year
+	 */
+	private WeekDefinition(int firstDayOfWeek, int minimalDaysInFirstWeek) {
+		this.firstDayOfWeek = firstDayOfWeek;
+		this.minimalDaysInFirstWeek = minimalDaysInFirstWeek;
+	}
+
+	// ================= factories =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the first day of week and the minimal days in the first week.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param firstDayOfWeek [i] The first day of week
+	 * @param minimalDaysInFirstWeek [i] The minimal days in the first week of the year from 1 to 7
+	 * @return Returns the week definition
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static WeekDefinition of(WeekInfo firstDayOfWeek, int minimalDaysInFirstWeek) {
+
+		if (firstDayOfWeek == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		if (minimalDaysInFirstWeek < 1 || minimalDaysInFirstWeek > 7) {
+			throw new IllegalArgumentException(String.format("Parameter [%d] is a invalid parameter.", minimalDaysInFirstWeek));
+		}
+
+		return new WeekDefinition(firstDayOfWeek.getCode(), minimalDaysInFirstWeek);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * This factory is used to initialise the class with the week of the locale.<br>
+	 * The first day of week and the minimal days in the first week are read from {@link Calendar} of the locale only once.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>WeekDefinition.of(Locale.GERMANY);</strong><br>
+	 * <strong>then the week starting on Monday whose week 1 has 4 days or more</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param locale [i] The locale
+	 * @return Returns the week definition
+	 * @throws IllegalArgumentException throws when the argument is not valid
+	 */
+	public static WeekDefinition of(Locale locale) {
+
+		if (locale == null) {
+			throw new IllegalArgumentException("Parameter [null] is a invalid parameter.");
+		}
+
+		final Calendar cal = Calendar.getInstance(locale);
+
+		return new WeekDefinition(cal.getFirstDayOfWeek(), cal.getMinimalDaysInFirstWeek());
+	}
+
+	// ================= public methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the beginning day of the week of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date or the result is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>WeekDefinition.ISO.getBeginningDateOfWeek(20190216);</strong><br>
+	 * <strong>then 20190211</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the beginning day of the week in yyyyMMdd form
+	 */
+	public int getBeginningDateOfWeek(int packedDate) {
+
+		if (!PackedDate.isValid(packedDate)) {
+			return PackedDate.INVALID;
+		}
+
+		return PackedDate.ofEpochDay(this.beginningOfWeek(PackedDate.toEpochDay(packedDate)));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the end day of the week of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date or the result is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>WeekDefinition.ISO.getEndDateOfWeek(20190216);</strong><br>
+	 * <strong>then 20190217</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the end day of the week in yyyyMMdd form
+	 */
+	public int getEndDateOfWeek(int packedDate) {
+
+		if (!PackedDate.isValid(packedDate)) {
+			return PackedDate.INVALID;
+		}
+
+		return PackedDate.ofEpochDay(this.beginningOfWeek(PackedDate.toEpochDay(packedDate)) + 6);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week of the week-based year of the packed date.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, -1 will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>WeekDefinition.ISO.getWeekOfYear(20190101);</strong><br>
+	 * <strong>then 1</strong><br>
+	 * <br>
+	 * <strong>WeekDefinition.ISO.getWeekOfYear(20210103);</strong><br>
+	 * <strong>then 53</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the week from 1 to 53, or -1
+	 *
+	 * @see #getWeekBasedYear(int)
+	 */
+	public int getWeekOfYear(int packedDate) {
+
+		final int yearWeek = this.getYearWeek(packedDate);
+
+		return yearWeek == PackedDate.INVALID ? -1 : yearWeek % 100;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week-based year of the packed date, which the week of the date belongs to.<br>
+	 * It is different from the year of the date in the first days of January and the last days of December.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, -1 will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>WeekDefinition.ISO.getWeekBasedYear(20181231);</strong><br>
+	 * <strong>then 2019</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the week-based year from 0 to 10000, or -1
+	 *
+	 * @see #getWeekOfYear(int)
+	 */
+	public int getWeekBasedYear(int packedDate) {
+
+		final int yearWeek = this.getYearWeek(packedDate);
+
+		return yearWeek == PackedDate.INVALID ? -1 : yearWeek / 100;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the week-based year and the week of the packed date in yyyyww form.<br>
+	 * It can be used as the key of the weekly aggregation, and it is ordered in the same way as the week.<br>
+	 * </DD>
+	 * <DT>Note:</DT>
+	 * <DD>
+	 * If the packed date is not valid, {@link PackedDate#INVALID} will be returned.<br>
+	 * </DD>
+	 * <DT>Example:</DT>
+	 * <DD>
+	 * <strong>WeekDefinition.ISO.getYearWeek(20181231);</strong><br>
+	 * <strong>then 201901</strong><br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param packedDate [i] Value of date in yyyyMMdd form
+	 * @return Returns the week-based year and the week in yyyyww form, or {@link PackedDate#INVALID}
+	 */
+	public int getYearWeek(int packedDate) {
+
+		if (!PackedDate.isValid(packedDate)) {
+			return PackedDate.INVALID;
+		}
+
+		final int epochDay = PackedDate.toEpochDay(packedDate);
+		int year = PackedDate.getYear(packedDate);
+		int firstWeek = this.firstWeekOf(year);
+
+		if (epochDay < firstWeek) {
+			firstWeek = this.firstWeekOf(--year);
+		} else {
+
+			final int nextFirstWeek = this.firstWeekOf(year + 1);
+
+			if (epochDay >= nextFirstWeek) {
+				firstWeek = nextFirstWeek;
+				year++;
+			}
+		}
+
+		return year * 100 + (epochDay - firstWeek) / 7 + 1;
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the first day of week.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the first day of week
+	 */
+	public WeekInfo getFirstDayOfWeek() {
+
+		return EnumLookupTable.<WeekInfo>of(WeekInfo.class).getByCode(this.firstDayOfWeek);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the minimal days in the first week of the year.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @return Returns the minimal days from 1 to 7
+	 */
+	public int getMinimalDaysInFirstWeek() {
+
+		return this.minimalDaysInFirstWeek;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.firstDayOfWeek * 31 + this.minimalDaysInFirstWeek;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof WeekDefinition)) {
+			return false;
+		}
+
+		final WeekDefinition other = (WeekDefinition) obj;
+
+		return this.firstDayOfWeek == other.firstDayOfWeek && this.minimalDaysInFirstWeek == other.minimalDaysInFirstWeek;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("WeekDefinition [firstDayOfWeek=%s, minimalDaysInFirstWeek=%d]", this.getFirstDayOfWeek(), this.minimalDaysInFirstWeek);
+	}
+
+	// ================= package-private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the number of days from the beginning day of the week to the day of week.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param dayOfWeek [i] The code value of the day of week
+	 * @return Returns the number of days from 0 to 6
+	 */
+	int daysFromBeginningOfWeek(int dayOfWeek) {
+
+		return Math.floorMod(dayOfWeek - this.firstDayOfWeek, 7);
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Set the first day of week and the minimal days in the first week to the calendar.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param cal [o] The calendar
+	 */
+	void applyTo(Calendar cal) {
+
+		cal.setFirstDayOfWeek(this.firstDayOfWeek);
+		cal.setMinimalDaysInFirstWeek(this.minimalDaysInFirstWeek);
+	}
+
+	// ================= private methods =====================================
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the epoch day of the beginning day of the week.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param epochDay [i] Number of days from 1970-01-01
+	 * @return Returns the epoch day of the beginning day of the week
+	 */
+	private int beginningOfWeek(int epochDay) {
+
+		return epochDay - this.daysFromBeginningOfWeek(CivilCalendar.dayOfWeek(epochDay));
+	}
+
+	/**
+	 * <DL>
+	 * <DT>Description:</DT>
+	 * <DD>
+	 * Return the epoch day of the beginning day of the week 1 of the year.<br>
+	 * </DD>
+	 * </DL>
+	 *
+	 * @param year [i] Value of year
+	 * @return Returns the epoch day of the beginning day of the week 1
+	 */
+	private int firstWeekOf(int year) {
+
+		final int january1 = CalendarTable.getInstance().toEpochDay(year, 1, 1);
+		final int weekStart = this.beginningOfWeek(january1);
+
+		// the week including January 1 is the week 1 only if it has the minimal days in the year
+		return 7 - (january1 - weekStart) >= this.minimalDaysInFirstWeek ? weekStart : weekStart + 7;
+	}
+}